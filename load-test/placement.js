@@ -0,0 +1,66 @@
+// k6 load test of concurrent placements, used to compare the default platform-thread worker pool with the
+// "virtual" (and "reactive") profiles. Every virtual user places and removes its own animal in a shared room,
+// so requests contend on the room version and spend time in the optimistic backoff.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 load-test/placement.js
+import http from 'k6/http';
+import {check} from 'k6';
+import {Counter} from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 400);
+const ROOMS = Number(__ENV.ROOMS || 10);
+const JSON_HEADERS = {headers: {'Content-Type': 'application/json'}};
+
+const conflicts = new Counter('placement_conflicts');
+
+export const options = {
+    scenarios: {
+        placements: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                {duration: '30s', target: VUS},
+                {duration: '2m', target: VUS},
+                {duration: '15s', target: 0},
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const run = Date.now();
+    const rooms = [];
+    for (let i = 0; i < ROOMS; i++) {
+        const res = http.post(`${BASE_URL}/api/rooms`, JSON.stringify({
+            title: `load-${run}-${i}`, capacity: 1e9, allowedCategory: 'WILD',
+        }), JSON_HEADERS);
+        rooms.push(res.json('id'));
+    }
+    const animals = [];
+    for (let i = 0; i < VUS; i++) {
+        const res = http.post(`${BASE_URL}/api/animals`, JSON.stringify({
+            title: `load-${run}-${i}`, volume: 1, category: 'WILD', located: '2025-01-01',
+        }), JSON_HEADERS);
+        animals.push(res.json('id'));
+    }
+    return {rooms, animals};
+}
+
+export default function (data) {
+    const animalId = data.animals[(__VU - 1) % data.animals.length];
+    const roomId = data.rooms[__ITER % data.rooms.length];
+
+    const placed = http.patch(`${BASE_URL}/api/animals/${animalId}/placement`,
+        JSON.stringify({roomId}), JSON_HEADERS);
+    if (placed.status === 400 && placed.json('errorCode') === 'CONCURRENT_ERROR') {
+        conflicts.add(1);
+    }
+    check(placed, {'placed': r => r.status === 200});
+
+    const removed = http.del(`${BASE_URL}/api/animals/${animalId}/placement`);
+    check(removed, {'removed': r => r.status === 200});
+}
@@ -2,6 +2,7 @@ package org.iranshahi.zoochallenge;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
 import static org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO;
@@ -13,6 +14,9 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
  *     <li>
  *         <b>EnableSpringDataWebSupport</b>: Tells Spring Data to serialize Page as a stable DTO structure (with content, page, totalElements, etc.)
  *     </li>
+ *     <li>
+ *         <b>ConfigurationPropertiesScan</b>: Binds the {@code zoo.*} property records placed in the configs package
+ *     </li>
  * </ul>
  *
  * @author Reza Iranshahi
@@ -20,6 +24,7 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
  *
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableSpringDataWebSupport(pageSerializationMode = VIA_DTO)
 public class ZoochallengeApplication {
 
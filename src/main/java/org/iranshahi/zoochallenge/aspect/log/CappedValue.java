@@ -0,0 +1,146 @@
+package org.iranshahi.zoochallenge.aspect.log;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A log argument which renders a value lazily and size-capped.
+ *
+ * <p>
+ * Nothing is rendered until the logging framework formats the message, i.e. only for events which are actually
+ * logged. Collections, maps, arrays and pages are rendered with their first elements and their size, records
+ * component by component, so a room with thousands of animal ids costs the same as an empty one; the whole
+ * rendering stops at {@code maxLength} characters.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class CappedValue {
+
+    private static final int MAX_DEPTH = 3;
+    private static final String ELLIPSIS = "...";
+
+    private static final ClassValue<RecordComponent[]> COMPONENTS = new ClassValue<>() {
+        @Override
+        protected RecordComponent[] computeValue(Class<?> type) {
+            return type.getRecordComponents();
+        }
+    };
+
+    private final Object value;
+    private final int maxLength;
+    private final int maxElements;
+
+    private CappedValue(Object value, int maxLength, int maxElements) {
+        this.value = value;
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+    }
+
+    /**
+     * @param value       the value to render, may be {@code null}
+     * @param maxLength   maximum number of characters rendered
+     * @param maxElements maximum number of elements rendered of a collection, map, array or page
+     * @return a log argument rendering {@code value} when the message is formatted
+     */
+    public static CappedValue of(Object value, int maxLength, int maxElements) {
+        return new CappedValue(value, maxLength, maxElements);
+    }
+
+    @Override
+    public String toString() {
+        var out = new StringBuilder();
+        render(value, out, 0);
+        if (out.length() > maxLength) {
+            out.setLength(maxLength);
+            out.append(ELLIPSIS);
+        }
+        return out.toString();
+    }
+
+    private void render(Object value, StringBuilder out, int depth) {
+        if (out.length() > maxLength) {
+            return;
+        }
+        switch (value) {
+            case null -> out.append("null");
+            case CharSequence text -> append(out, text);
+            case Page<?> page -> {
+                out.append("Page ").append(page.getNumber()).append(" of ").append(page.getTotalPages())
+                        .append(" (").append(page.getTotalElements()).append(" elements) ");
+                renderElements(page.getContent().iterator(), page.getNumberOfElements(), out, depth);
+            }
+            case Slice<?> slice -> {
+                out.append("Slice ").append(slice.getNumber()).append(' ');
+                renderElements(slice.getContent().iterator(), slice.getNumberOfElements(), out, depth);
+            }
+            case Collection<?> collection -> renderElements(collection.iterator(), collection.size(), out, depth);
+            case Map<?, ?> map -> renderElements(map.entrySet().iterator(), map.size(), out, depth);
+            case Map.Entry<?, ?> entry -> {
+                render(entry.getKey(), out, depth + 1);
+                out.append('=');
+                render(entry.getValue(), out, depth + 1);
+            }
+            case Object[] array -> renderElements(Arrays.asList(array).iterator(), array.length, out, depth);
+            case byte[] bytes -> out.append("byte[").append(bytes.length).append(']');
+            case Record record when depth < MAX_DEPTH && Modifier.isPublic(record.getClass().getModifiers()) ->
+                    renderRecord(record, out, depth);
+            default -> append(out, String.valueOf(value));
+        }
+    }
+
+    private void renderElements(Iterator<?> elements, int size, StringBuilder out, int depth) {
+        if (depth >= MAX_DEPTH) {
+            out.append("[size=").append(size).append(']');
+            return;
+        }
+        out.append('[');
+        int rendered = 0;
+        while (elements.hasNext() && rendered < maxElements && out.length() <= maxLength) {
+            if (rendered > 0) {
+                out.append(", ");
+            }
+            render(elements.next(), out, depth + 1);
+            rendered++;
+        }
+        if (rendered < size) {
+            out.append(rendered > 0 ? ", " : "").append(ELLIPSIS).append(" size=").append(size);
+        }
+        out.append(']');
+    }
+
+    private void renderRecord(Record record, StringBuilder out, int depth) {
+        out.append(record.getClass().getSimpleName()).append('[');
+        var components = COMPONENTS.get(record.getClass());
+        for (int i = 0; i < components.length && out.length() <= maxLength; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(components[i].getName()).append('=');
+            try {
+                render(components[i].getAccessor().invoke(record), out, depth + 1);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                out.append('?');
+            }
+        }
+        out.append(']');
+    }
+
+    /**
+     * Appends no more than what still fits, a huge string isn't copied as a whole.
+     */
+    private void append(StringBuilder out, CharSequence text) {
+        int room = maxLength + 1 - out.length();
+        if (room > 0) {
+            out.append(text, 0, Math.min(text.length(), room));
+        }
+    }
+}
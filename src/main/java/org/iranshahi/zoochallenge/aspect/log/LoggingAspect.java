@@ -6,20 +6,42 @@ import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.iranshahi.zoochallenge.configs.LoggingProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
+ * <h3>DEBUG Tracing Overhead</h3>
+ * <ul>
+ *   <li>Calls are sampled per package with {@code zoo.logging.sampling}, the decision is made once per call
+ *   so an entered call is also logged when it exits</li>
+ *   <li>Arguments and results are passed as {@link CappedValue}s, rendered only when an event is logged and
+ *   capped to {@code zoo.logging.max-value-length} characters and {@code zoo.logging.max-elements} elements</li>
+ *   <li>Events are written by the asynchronous appenders of {@code logback-spring.xml}, which drop DEBUG and
+ *   INFO events instead of blocking when they fall behind</li>
+ * </ul>
+ *
  * @author Reza Iranshahi
  * @since 9 Oct 2025
  */
 @Aspect
 public class LoggingAspect {
 
+    private final LoggingProperties properties;
+    private final ClassValue<Double> samplingRates = new ClassValue<>() {
+        @Override
+        protected Double computeValue(Class<?> type) {
+            return properties.samplingRate(type.getName());
+        }
+    };
+
+    public LoggingAspect(LoggingProperties properties) {
+        this.properties = properties;
+    }
 
     /**
      * Pointcut that matches all repositories, services and Web REST endpoints.
@@ -80,18 +102,28 @@ public class LoggingAspect {
     @Around("applicationPackagePointcut() && springBeanPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
         Logger log = logger(joinPoint);
-        if (log.isDebugEnabled()) {
-            log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+        boolean traced = log.isDebugEnabled() && sampled(joinPoint);
+        if (traced) {
+            log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), capped(joinPoint.getArgs()));
         }
         try {
             Object result = joinPoint.proceed();
-            if (log.isDebugEnabled()) {
-                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
+            if (traced) {
+                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), capped(result));
             }
             return result;
         } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
+            log.error("Illegal argument: {} in {}()", capped(joinPoint.getArgs()), joinPoint.getSignature().getName());
             throw e;
         }
     }
+
+    private boolean sampled(JoinPoint joinPoint) {
+        double rate = samplingRates.get(joinPoint.getSignature().getDeclaringType());
+        return rate >= 1.0 || rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private CappedValue capped(Object value) {
+        return CappedValue.of(value, properties.maxValueLength(), properties.maxElements());
+    }
 }
@@ -1,7 +1,9 @@
 package org.iranshahi.zoochallenge.business.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.validation.constraints.*;
 import lombok.Builder;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
 import org.iranshahi.zoochallenge.data.model.Category;
 
 import java.time.LocalDate;
@@ -40,6 +42,7 @@ import java.util.Set;
  * @since 9 Oct 2025
  */
 @Builder
+@JsonFilter(FieldSelection.FILTER)
 public record AnimalDto(
 
         String id,
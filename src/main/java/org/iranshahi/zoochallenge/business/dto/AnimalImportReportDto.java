@@ -0,0 +1,35 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import java.util.List;
+
+/**
+ * {@code AnimalImportReportDto} summarizes one bulk import of animals.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #records} — Number of non-blank records read, the CSV header isn't counted</li>
+ *   <li>{@link #imported} — Number of animals inserted</li>
+ *   <li>{@link #rejected} — Number of records which were malformed, invalid or failed to insert</li>
+ *   <li>{@link #errors} — The first errors, by line number of the upload</li>
+ *   <li>{@link #errorsTruncated} — {@code true} if more errors occurred than are listed</li>
+ *   <li>{@link #elapsedMillis} — Wall-clock time of the whole import</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record AnimalImportReportDto(
+        long records,
+        long imported,
+        long rejected,
+        List<LineError> errors,
+        boolean errorsTruncated,
+        long elapsedMillis
+) {
+
+    public record LineError(
+            long line,
+            String error
+    ) {
+    }
+}
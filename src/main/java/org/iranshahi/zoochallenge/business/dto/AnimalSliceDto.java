@@ -0,0 +1,19 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import java.util.List;
+
+/**
+ * {@code AnimalSliceDto} is one slice of the animals of a room, read by keyset instead of offset and without a total count.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #content} — Animals of this slice, in the requested order</li>
+ *   <li>{@link #nextCursor} — Opaque cursor of the next slice, {@code null} on the last slice</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record AnimalSliceDto(List<AnimalDto> content,
+                             String nextCursor) {
+}
@@ -0,0 +1,14 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import org.iranshahi.zoochallenge.data.model.Category;
+
+import java.time.LocalDate;
+
+/**
+ * The few fields of an animal which are embedded in an expanded room.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record AnimalSummaryDto(String id, String title, double volume, Category category, LocalDate located) {
+}
@@ -0,0 +1,37 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * {@code BatchPlacementDto} carries a list of placements which are validated per room and applied as bulk writes.
+ *
+ * <h3>Validation Rules</h3>
+ * <ul>
+ *   <li>{@code items}: between 1 and {@value #MAX_ITEMS} placements</li>
+ *   <li>{@code animalId} and {@code roomId}: must not be null</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record BatchPlacementDto(
+        @NotEmpty(message = "Items must not be empty")
+        @Size(max = BatchPlacementDto.MAX_ITEMS, message = "At most " + BatchPlacementDto.MAX_ITEMS + " items are allowed")
+        List<@Valid Item> items
+) {
+    public static final int MAX_ITEMS = 5000;
+
+    public record Item(
+            @NotNull(message = "Animal id must not be null")
+            String animalId,
+
+            @NotNull(message = "Room id must not be null")
+            String roomId
+    ) {
+    }
+}
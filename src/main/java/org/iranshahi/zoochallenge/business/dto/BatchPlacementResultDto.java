@@ -0,0 +1,32 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import java.util.List;
+
+/**
+ * {@code BatchPlacementResultDto} reports the outcome of every item of a {@link BatchPlacementDto}, in request order.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #placed} — Number of animals which are placed in the requested room</li>
+ *   <li>{@link #failed} — Number of items which were rejected</li>
+ *   <li>{@link #items} — Result of each item, failed items carry the business error code and message</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record BatchPlacementResultDto(
+        int placed,
+        int failed,
+        List<ItemResult> items
+) {
+
+    public record ItemResult(
+            String animalId,
+            String roomId,
+            boolean placed,
+            String errorCode,
+            String error
+    ) {
+    }
+}
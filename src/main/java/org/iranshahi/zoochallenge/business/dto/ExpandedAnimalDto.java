@@ -0,0 +1,32 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+/**
+ * An animal with its related rooms embedded, read with {@code expand=room,favourites}.
+ *
+ * <p>
+ * The fields of the animal are serialized inline, as in {@link AnimalDto}, followed by the expanded relations.
+ * A relation which wasn't asked for is left out.
+ * </p>
+ *
+ * @param animal         the animal
+ * @param room           the room the animal is placed in, {@code null} when it isn't placed
+ * @param favouriteRooms the favourite rooms sorted by title, rooms which were deleted meanwhile are left out
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record ExpandedAnimalDto(
+        @JsonUnwrapped
+        AnimalDto animal,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        RoomSummaryDto room,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<RoomSummaryDto> favouriteRooms
+) {
+}
@@ -0,0 +1,36 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+
+/**
+ * A room with one page of its animals embedded, read with {@code expand=animals}.
+ *
+ * <p>
+ * The fields of the room are serialized inline, as in {@link RoomDto}, followed by the expanded animals.
+ * </p>
+ *
+ * @param room    the room
+ * @param animals the page of animals placed in the room, {@code null} when it wasn't asked for
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record ExpandedRoomDto(
+        @JsonUnwrapped
+        RoomDto room,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Animals animals
+) {
+
+    /**
+     * @param content the animals of the page sorted by title
+     * @param page    the zero-based page number
+     * @param size    the maximum number of animals in a page
+     * @param hasNext whether more animals follow
+     */
+    public record Animals(List<AnimalSummaryDto> content, int page, int size, boolean hasNext) {
+    }
+}
@@ -0,0 +1,19 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import java.util.List;
+
+/**
+ * {@code FavouriteRoomPageDto} is one page of the favourite rooms leaderboard, most favourite room first.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #rooms} — Rooms of this page, ordered by count descending and room id ascending</li>
+ *   <li>{@link #nextCursor} — Opaque cursor of the next page, {@code null} on the last page</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record FavouriteRoomPageDto(List<FavouriteRoomDto> rooms,
+                                   String nextCursor) {
+}
@@ -0,0 +1,40 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * {@code IdsDto} carries the ids of a multi-get which are too many for a query string.
+ *
+ * <h3>Validation Rules</h3>
+ * <ul>
+ *   <li>{@code ids}: between 1 and {@value #MAX_IDS} distinct ids, none of them null</li>
+ * </ul>
+ *
+ * <p>
+ * Repeated ids are dropped on construction, so the size limit counts distinct ids just as the limit of the
+ * {@code GET} multi-get does.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record IdsDto(
+        @NotEmpty(message = "Ids must not be empty")
+        @Size(max = IdsDto.MAX_IDS, message = "At most " + IdsDto.MAX_IDS + " ids are allowed")
+        List<@NotNull(message = "Id must not be null") String> ids
+) {
+    public static final int MAX_IDS = 1000;
+
+    public IdsDto {
+        if (ids != null) {
+            // not List.copyOf, which rejects the null ids the validation reports
+            ids = new ArrayList<>(new LinkedHashSet<>(ids));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * {@code MoveDto} carries the room an already placed animal is moved to.
+ *
+ * @param roomId the ID of target room
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record MoveDto(
+        @NotNull(message = "Room id must not be null")
+        String roomId) {
+}
@@ -0,0 +1,22 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import java.util.List;
+
+/**
+ * {@code MultiGetResultDto} is the outcome of reading many entities by id with one query.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #items} — The found entities, in the order their ids were requested; repeated ids appear once</li>
+ *   <li>{@link #missingIds} — The requested ids which don't exist, in request order</li>
+ * </ul>
+ *
+ * @param <T> the DTO type of the entities
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record MultiGetResultDto<T>(
+        List<T> items,
+        List<String> missingIds
+) {
+}
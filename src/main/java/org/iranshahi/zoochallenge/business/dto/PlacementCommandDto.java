@@ -0,0 +1,47 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * {@code PlacementCommandDto} is the status resource of a placement command which was accepted
+ * to be executed asynchronously on the mailbox of its room.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #id} — Unique identifier of the command, used to poll its status</li>
+ *   <li>{@link #type} — Whether the command places or removes the animal</li>
+ *   <li>{@link #status} — {@code PENDING} until the command is executed, then {@code DONE} or {@code FAILED}</li>
+ *   <li>{@link #result} — The animal after a successful execution</li>
+ *   <li>{@link #errorCode} — The business error code of a failed execution</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Builder
+public record PlacementCommandDto(
+        String id,
+        CommandType type,
+        String animalId,
+        String roomId,
+        CommandStatus status,
+        AnimalDto result,
+        String errorCode,
+        String error,
+        Instant submitted,
+        Instant completed
+) {
+
+    public enum CommandType {
+        PLACE,
+        REMOVE
+    }
+
+    public enum CommandStatus {
+        PENDING,
+        DONE,
+        FAILED
+    }
+}
@@ -1,8 +1,14 @@
 package org.iranshahi.zoochallenge.business.dto;
 
-import jakarta.validation.constraints.NotNull;
-
+/**
+ * {@code PlacementDto} carries the room an animal is placed in.
+ *
+ * <p>
+ * When {@code roomId} is {@code null} the best-fitting room for the animal is picked automatically.
+ * </p>
+ *
+ * @param roomId the ID of room, nullable
+ */
 public record PlacementDto(
-        @NotNull
         String roomId) {
 }
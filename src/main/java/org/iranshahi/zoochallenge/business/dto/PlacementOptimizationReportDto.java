@@ -0,0 +1,31 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+/**
+ * {@code PlacementOptimizationReportDto} summarizes one run of the bin-packing optimizer over unplaced animals.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #unplacedAnimals} — Number of animals without a room when the run started</li>
+ *   <li>{@link #placedAnimals} — Number of animals placed by the run</li>
+ *   <li>{@link #failedAnimals} — Number of planned placements rejected while committing, e.g. by concurrent writes</li>
+ *   <li>{@link #roomsUsed} — Number of rooms which received at least one animal</li>
+ *   <li>{@link #leftoverVolume} — Free volume left in the used rooms</li>
+ *   <li>{@link #fragmentation} — {@code leftoverVolume} divided by the total capacity of the used rooms</li>
+ *   <li>{@link #planMillis} — Wall-clock time spent on packing in memory</li>
+ *   <li>{@link #elapsedMillis} — Wall-clock time of the whole run, including loading and bulk writes</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record PlacementOptimizationReportDto(
+        int unplacedAnimals,
+        int placedAnimals,
+        int failedAnimals,
+        int roomsUsed,
+        double leftoverVolume,
+        double fragmentation,
+        long planMillis,
+        long elapsedMillis
+) {
+}
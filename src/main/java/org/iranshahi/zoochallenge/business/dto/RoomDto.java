@@ -1,10 +1,12 @@
 package org.iranshahi.zoochallenge.business.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Builder;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
 import org.iranshahi.zoochallenge.data.model.Category;
 
 import java.util.Set;
@@ -25,7 +27,9 @@ import java.util.Set;
  *   <li>{@link #title} — Human-readable name of the room</li>
  *   <li>{@link #capacity} — Maximum total volume that can be occupied by animals</li>
  *   <li>{@link #usedVolume} — Currently used portion of the capacity</li>
- *   <li>{@link #animalIds} — Set of animal identifiers currently assigned to the room</li>
+ *   <li>{@link #animalIds} — Set of animal identifiers currently assigned to the room, empty when the
+ *   occupancy is derived from {@code Animal.roomId}; list them with {@code GET /api/animals/by-room/{id}}</li>
+ *   <li>{@link #animalCount} — Number of animals currently assigned to the room</li>
  *   <li>{@link #allowedCategory} — Restricts which animal category is allowed in this room</li>
  *   <li>{@link #version} — Optimistic lock version used for concurrency control</li>
  * </ul>
@@ -41,6 +45,7 @@ import java.util.Set;
  * @since 9 Oct 2025
  */
 @Builder
+@JsonFilter(FieldSelection.FILTER)
 public record RoomDto(
         String id,
 
@@ -55,6 +60,8 @@ public record RoomDto(
 
         Set<String> animalIds,
 
+        long animalCount,
+
         @NotNull(message = "Allowed category must not be null")
         Category allowedCategory,
 
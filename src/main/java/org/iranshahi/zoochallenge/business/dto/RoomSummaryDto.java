@@ -0,0 +1,12 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import org.iranshahi.zoochallenge.data.model.Category;
+
+/**
+ * The few fields of a room which are embedded in an expanded animal.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record RoomSummaryDto(String id, String title, double capacity, double usedVolume, Category allowedCategory) {
+}
@@ -0,0 +1,23 @@
+package org.iranshahi.zoochallenge.business.dto;
+
+import java.util.Map;
+
+/**
+ * {@code SnapshotReportDto} summarizes the creation or restore of a snapshot.
+ *
+ * <h3>Fields</h3>
+ * <ul>
+ *   <li>{@link #documents} — Number of documents per collection, in snapshot order</li>
+ *   <li>{@link #bytes} — Size of the snapshot file</li>
+ *   <li>{@link #elapsedMillis} — Wall-clock time of the whole run, including index builds on restore</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record SnapshotReportDto(
+        Map<String, Long> documents,
+        long bytes,
+        long elapsedMillis
+) {
+}
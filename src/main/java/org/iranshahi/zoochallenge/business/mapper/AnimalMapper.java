@@ -1,6 +1,7 @@
 package org.iranshahi.zoochallenge.business.mapper;
 
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.AnimalSummaryDto;
 import org.iranshahi.zoochallenge.data.model.Animal;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
@@ -79,6 +80,20 @@ public class AnimalMapper {
         );
     }
 
+    /**
+     * Converts an {@link Animal} entity, possibly loaded with only its summary fields, into an {@link AnimalSummaryDto}.
+     *
+     * @param animal the {@link Animal} entity to convert
+     * @return the corresponding {@link AnimalSummaryDto}, or {@code null} if input is null
+     */
+    public AnimalSummaryDto toSummaryDto(Animal animal) {
+        if (animal == null) {
+            return null;
+        }
+        return new AnimalSummaryDto(animal.getId(), animal.getTitle(), animal.getVolume(), animal.getCategory(),
+                animal.getLocated());
+    }
+
     /**
      * Converts a paginated list of {@link Animal} entities into a paginated list of {@link AnimalDto}s.
      *
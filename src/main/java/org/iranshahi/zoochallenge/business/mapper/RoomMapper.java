@@ -1,6 +1,7 @@
 package org.iranshahi.zoochallenge.business.mapper;
 
 import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.business.dto.RoomSummaryDto;
 import org.iranshahi.zoochallenge.data.model.Room;
 import org.springframework.stereotype.Component;
 
@@ -33,8 +34,9 @@ public class RoomMapper {
     /**
      * Converts a {@link RoomDto} into a {@link Room} entity.
      * <p>
-     * The {@code id} and {@code version} fields are typically managed by the database,
-     * so they are not set here unless provided explicitly.
+     * The {@code id} is assigned by the database, so an id sent by a client is ignored and a create can't
+     * collide with an existing room. The {@code animalCount} counter is only changed by placements, a count
+     * sent by a client is ignored as well.
      * </p>
      *
      * @param dto the {@link RoomDto} carrying API or external data
@@ -46,7 +48,6 @@ public class RoomMapper {
         }
 
         return Room.builder()
-                .id(dto.id())
                 .title(dto.title())
                 .capacity(dto.capacity())
                 .usedVolume(dto.usedVolume())
@@ -80,8 +81,23 @@ public class RoomMapper {
                 room.getCapacity(),
                 room.getUsedVolume(),
                 animalIdsCopy,
+                room.getAnimalCount(),
                 room.getAllowedCategory(),
                 room.getVersion()
         );
     }
+
+    /**
+     * Converts a {@link Room} entity, possibly loaded with only its summary fields, into a {@link RoomSummaryDto}.
+     *
+     * @param room the {@link Room} entity to convert
+     * @return the mapped {@link RoomSummaryDto} or {@code null} if input is null
+     */
+    public RoomSummaryDto toSummaryDto(Room room) {
+        if (room == null) {
+            return null;
+        }
+        return new RoomSummaryDto(room.getId(), room.getTitle(), room.getCapacity(), room.getUsedVolume(),
+                room.getAllowedCategory());
+    }
 }
@@ -0,0 +1,39 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.business.dto.AnimalImportReportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * creates many animals from an uploaded file
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ *
+ */
+public interface AnimalImportService {
+
+    enum Format {
+        /**
+         * one {@code AnimalDto} JSON object per line
+         */
+        NDJSON,
+        /**
+         * a header line naming the columns, out of {@code title}, {@code volume}, {@code category} and
+         * {@code located}, followed by one animal per line
+         */
+        CSV
+    }
+
+    /**
+     * parses the upload record by record, validates each against the {@code AnimalDto} constraints and inserts
+     * the valid ones in batches; imported animals are unplaced and have no favourite rooms
+     *
+     * @param in     the upload, read to its end but not closed
+     * @param format the format of the upload
+     * @return {@link AnimalImportReportDto} the outcome, with the errors of rejected lines
+     * @throws IOException if reading the upload fails
+     */
+    AnimalImportReportDto importAnimals(InputStream in, Format format) throws IOException;
+}
@@ -1,9 +1,17 @@
 package org.iranshahi.zoochallenge.business.service;
 
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.AnimalSliceDto;
+import org.iranshahi.zoochallenge.business.dto.ExpandedAnimalDto;
+import org.iranshahi.zoochallenge.business.dto.IdsDto;
+import org.iranshahi.zoochallenge.business.dto.MultiGetResultDto;
 import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
+import org.iranshahi.zoochallenge.exceptions.TooManyIdsException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
 
 /**
  * Exposes all required functionality to manage {@code Animal}
@@ -42,6 +50,44 @@ public interface AnimalManagementService {
      */
     AnimalDto get(String animalId);
 
+    /**
+     * gets animal by id, loading only the selected fields
+     *
+     * @param animalId the ID of animal {@code String}
+     * @param fields   the fields the client asked for {@link FieldSelection}
+     * @return animal data {@link AnimalDto}, fields which aren't selected may be empty
+     * @throws AnimalNotFoundException if animal not exists with the id it will throw
+     */
+    AnimalDto get(String animalId, FieldSelection fields);
+
+    /**
+     * gets animal by id with its related rooms embedded, all of them read with one aggregation
+     *
+     * @param animalId  the ID of animal {@code String}
+     * @param expansion the relations to embed, {@link Expansion#ROOM} and {@link Expansion#FAVOURITES}
+     * @return animal data with the expanded rooms {@link ExpandedAnimalDto}
+     * @throws AnimalNotFoundException if animal not exists with the id it will throw
+     */
+    ExpandedAnimalDto getExpanded(String animalId, Expansion expansion);
+
+    /**
+     * gets many animals with one query
+     *
+     * @param animalIds the IDs of animals, in the order the result should have
+     * @return {@link MultiGetResultDto} the found animals in request order and the ids which don't exist
+     * @throws TooManyIdsException if more than {@value IdsDto#MAX_IDS} distinct ids are requested
+     */
+    MultiGetResultDto<AnimalDto> getAll(List<String> animalIds);
+
+    /**
+     * gets the current version of animal, without loading the whole document
+     *
+     * @param animalId the ID of animal {@code String}
+     * @return the version of animal, {@code null} if it has never been versioned
+     * @throws AnimalNotFoundException if animal not exists with the id it will throw
+     */
+    Long getVersion(String animalId);
+
 
     /**
      * deletes animal by id
@@ -61,4 +107,28 @@ public interface AnimalManagementService {
      * @return list of animals in the room by page
      */
     Page<AnimalDto> getAnimalsInRoom(String roomId, Pageable pageable);
+
+    /**
+     * gets the animals living in a specific room, loading only the selected fields
+     *
+     * @param roomId   the ID of room {@code String}
+     * @param pageable handles page size and number and sorting concerns {@link Pageable}
+     * @param fields   the fields the client asked for {@link FieldSelection}
+     * @return list of animals in the room by page, fields which aren't selected may be empty
+     */
+    Page<AnimalDto> getAnimalsInRoom(String roomId, Pageable pageable, FieldSelection fields);
+
+    /**
+     * gets the animals living in a specific room slice by slice, each slice costs the same however deep it is
+     *
+     * @param roomId    the ID of room {@code String}
+     * @param sortKey   the key to sort by, ignored when continuing from a cursor {@link AnimalSortKey}
+     * @param direction the direction to sort in, ignored when continuing from a cursor
+     * @param size      the maximum number of animals in the slice
+     * @param cursor    the {@code nextCursor} of the previous slice, {@code null} for the first slice
+     * @param fields    the fields the client asked for {@link FieldSelection}
+     * @return the slice of animals, with a {@code nextCursor} if more animals follow
+     */
+    AnimalSliceDto getAnimalsInRoom(String roomId, AnimalSortKey sortKey, Sort.Direction direction,
+                                    int size, String cursor, FieldSelection fields);
 }
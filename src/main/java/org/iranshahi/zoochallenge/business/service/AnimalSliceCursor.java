@@ -0,0 +1,70 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.bson.Document;
+import org.iranshahi.zoochallenge.exceptions.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the animals of a room, the last animal of the previous slice together with the order of the slices.
+ * <p>
+ * Encoded as URL-safe Base64 of a small JSON document, so clients treat it as an opaque token.
+ * </p>
+ *
+ * @param sortKey   the key the slices are sorted by
+ * @param direction the direction of the slices
+ * @param value     the value of the sort key of the last returned animal, as text, may be {@code null}
+ * @param animalId  the ID of the last returned animal, breaks ties between equal values
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record AnimalSliceCursor(AnimalSortKey sortKey, Sort.Direction direction, String value, String animalId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        var json = new Document("s", sortKey.name())
+                .append("d", direction.name())
+                .append("v", value)
+                .append("i", animalId)
+                .toJson();
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the value of the sort key with the type of the field
+     */
+    public Object typedValue() {
+        return sortKey.parse(value);
+    }
+
+    /**
+     * @param cursor the cursor sent by a client, may be {@code null} or blank for the first slice
+     * @return the decoded position, or {@code null} for the first slice
+     * @throws InvalidCursorException if the cursor isn't one created by {@link #encode()}
+     */
+    public static AnimalSliceCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            var json = Document.parse(new String(DECODER.decode(cursor), StandardCharsets.UTF_8));
+            var decoded = new AnimalSliceCursor(
+                    AnimalSortKey.valueOf(json.getString("s")),
+                    Sort.Direction.valueOf(json.getString("d")),
+                    json.getString("v"),
+                    json.getString("i"));
+            if (decoded.animalId() == null) {
+                throw new InvalidCursorException(cursor);
+            }
+            decoded.typedValue();
+            return decoded;
+        } catch (RuntimeException ex) {
+            // malformed Base64 or JSON, missing or mistyped keys, or a value which doesn't parse as its field
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.exceptions.InvalidFieldException;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Fields the animals of a room can be sorted by in keyset slices, each backed by a
+ * {@code (roomId, field, _id)} index of {@link Animal}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public enum AnimalSortKey {
+    TITLE("title", Animal::getTitle, value -> value),
+    LOCATED("located", Animal::getLocated, LocalDate::parse),
+    VOLUME("volume", Animal::getVolume, Double::valueOf);
+
+    private final String field;
+    private final Function<Animal, Object> extractor;
+    private final Function<String, Object> parser;
+
+    AnimalSortKey(String field, Function<Animal, Object> extractor, Function<String, Object> parser) {
+        this.field = field;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    /**
+     * @param field the name of a field
+     * @return the sort key of the field
+     * @throws InvalidFieldException if animals can't be sorted by the field in slices
+     */
+    public static AnimalSortKey of(String field) {
+        return Arrays.stream(values())
+                .filter(key -> key.field.equals(field))
+                .findFirst()
+                .orElseThrow(() -> new InvalidFieldException(field));
+    }
+
+    public String field() {
+        return field;
+    }
+
+    /**
+     * @return the value of the key of the animal as text, {@code null} if the animal has no value
+     */
+    public String format(Animal animal) {
+        return Objects.toString(extractor.apply(animal), null);
+    }
+
+    /**
+     * @return the value of the key with the type of the field, {@code null} for {@code null}
+     */
+    public Object parse(String value) {
+        return value == null ? null : parser.apply(value);
+    }
+}
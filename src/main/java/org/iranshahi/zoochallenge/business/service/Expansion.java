@@ -0,0 +1,69 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.exceptions.InvalidFieldException;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The relations a client asked to embed with {@code expand=}, resolved on the server instead of with one
+ * follow-up request per related entity.
+ *
+ * @param names the relations to embed, empty when nothing is expanded
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record Expansion(Set<String> names) {
+
+    /**
+     * The room an animal is placed in.
+     */
+    public static final String ROOM = "room";
+    /**
+     * The favourite rooms of an animal.
+     */
+    public static final String FAVOURITES = "favourites";
+    /**
+     * A page of the animals placed in a room.
+     */
+    public static final String ANIMALS = "animals";
+
+    private static final Expansion NONE = new Expansion(Set.of());
+
+    public static Expansion none() {
+        return NONE;
+    }
+
+    /**
+     * @param expand  comma separated relation names, {@code null} or blank for none
+     * @param allowed the relations which can be expanded on the resource
+     * @return the expansion
+     * @throws InvalidFieldException if a relation isn't one of {@code allowed}
+     */
+    public static Expansion parse(String expand, String... allowed) {
+        if (expand == null || expand.isBlank()) {
+            return NONE;
+        }
+        var known = Set.of(allowed);
+        var names = new LinkedHashSet<String>();
+        for (var relation : expand.split(",")) {
+            var name = relation.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!known.contains(name)) {
+                throw new InvalidFieldException(name);
+            }
+            names.add(name);
+        }
+        return names.isEmpty() ? NONE : new Expansion(Set.copyOf(names));
+    }
+
+    public boolean isNone() {
+        return names.isEmpty();
+    }
+
+    public boolean has(String name) {
+        return names.contains(name);
+    }
+}
@@ -0,0 +1,48 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the favourite rooms leaderboard, the last row of the previous page.
+ * <p>
+ * Encoded as URL-safe Base64 of {@code count:roomId}, so clients treat it as an opaque token.
+ * </p>
+ *
+ * @param count  the count of the last returned room
+ * @param roomId the ID of the last returned room, breaks ties between equal counts
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record FavouriteRoomCursor(long count, String roomId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode() {
+        return ENCODER.encodeToString((count + ":" + roomId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor the cursor sent by a client, may be {@code null} or blank for the first page
+     * @return the decoded position, or {@code null} for the first page
+     * @throws InvalidCursorException if the cursor isn't one created by {@link #encode()}
+     */
+    public static FavouriteRoomCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            var value = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            if (separator <= 0 || separator == value.length() - 1) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new FavouriteRoomCursor(Long.parseLong(value.substring(0, separator)), value.substring(separator + 1));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
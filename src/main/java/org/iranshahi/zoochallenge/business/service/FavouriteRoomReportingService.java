@@ -1,39 +1,64 @@
 package org.iranshahi.zoochallenge.business.service;
 
 import lombok.RequiredArgsConstructor;
-import org.bson.Document;
 import org.iranshahi.zoochallenge.business.dto.FavouriteRoomDto;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.iranshahi.zoochallenge.business.dto.FavouriteRoomPageDto;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+/**
+ * Reports how many animals have each room as favourite.
+ *
+ * <p>
+ * The counts are maintained incrementally by the favourite and room write paths, so a report reads one
+ * counter per room instead of unwinding the favourites of every animal.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
 public class FavouriteRoomReportingService {
-    private final MongoTemplate mongo;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final FavouriteRoomCounterRepository counterRepository;
 
     public List<FavouriteRoomDto> listFavouriteRooms() {
-        var aggregate = Aggregation.newAggregation(
-                Aggregation.unwind("favouriteRoomIds"),
-                Aggregation.group("favouriteRoomIds").count().as("count"),
-                Aggregation.lookup("rooms", "_id", "_id", "roomData"),
-                Aggregation.unwind("roomData"),
-                Aggregation.project()
-                        .and("_id").as("roomId")
-                        .and("roomData.title").as("title")
-                        .and("count").as("count")
-        );
-        AggregationResults<Document> results = mongo.aggregate(aggregate, "animals", org.bson.Document.class);
-        return results.getMappedResults().stream()
-                .map(d ->
-                        new FavouriteRoomDto(
-                                d.getString("roomId"),
-                                d.getString("title"),
-                                d.getInteger("count").longValue()
-                        )
-                ).toList();
+        return counterRepository.findByCountGreaterThanOrderByCountDesc(0).stream()
+                .map(counter -> new FavouriteRoomDto(counter.getRoomId(), counter.getTitle(), counter.getCount()))
+                .toList();
+    }
+
+    /**
+     * Reads one page of the favourite rooms leaderboard, seeking by the cursor on the counter index so deep
+     * pages cost the same as the first one.
+     *
+     * @param limit  the maximum number of rooms, clamped to {@code 1..}{@value #MAX_PAGE_SIZE}
+     * @param cursor the {@code nextCursor} of the previous page, {@code null} for the first page
+     * @return the page, with a {@code nextCursor} if more rooms follow
+     */
+    public FavouriteRoomPageDto leaderboard(int limit, String cursor) {
+        var after = FavouriteRoomCursor.decode(cursor);
+        int size = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        var counters = after == null
+                ? counterRepository.findPage(0, null, size + 1)
+                : counterRepository.findPage(after.count(), after.roomId(), size + 1);
+        var rooms = counters.stream()
+                .limit(size)
+                .map(counter -> new FavouriteRoomDto(counter.getRoomId(), counter.getTitle(), counter.getCount()))
+                .toList();
+        String next = null;
+        if (counters.size() > size) {
+            var last = rooms.getLast();
+            next = new FavouriteRoomCursor(last.count(), last.roomId()).encode();
+        }
+        return new FavouriteRoomPageDto(rooms, next);
+    }
+
+    /**
+     * Recomputes the counters from the favourites of all animals, to repair drifted counts.
+     */
+    public void rebuild() {
+        counterRepository.rebuild();
     }
 }
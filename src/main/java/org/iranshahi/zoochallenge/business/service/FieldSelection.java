@@ -0,0 +1,83 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.exceptions.InvalidFieldException;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The fields of a DTO a client asked for with {@code fields=}, a sparse fieldset.
+ *
+ * <p>
+ * The selection is pushed down to Mongo as a projection, so unselected fields, e.g. big id sets, are neither
+ * read nor mapped. The DTOs are annotated with the Jackson filter {@value #FILTER}, which leaves the
+ * unselected fields out of the response.
+ * </p>
+ *
+ * @param names the selected field names, {@code null} when all fields are selected
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public record FieldSelection(Set<String> names) {
+
+    public static final String FILTER = "fieldSelection";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private static final ClassValue<Set<String>> COMPONENTS = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return Arrays.stream(type.getRecordComponents())
+                    .map(RecordComponent::getName)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    };
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * @param fields comma separated field names, {@code null} or blank for all fields
+     * @param type   the DTO whose components may be selected
+     * @return the selection
+     * @throws InvalidFieldException if a field isn't a component of {@code type}
+     */
+    public static FieldSelection parse(String fields, Class<? extends Record> type) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        var known = COMPONENTS.get(type);
+        var names = new LinkedHashSet<String>();
+        for (var field : fields.split(",")) {
+            var name = field.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!known.contains(name)) {
+                throw new InvalidFieldException(name);
+            }
+            names.add(name);
+        }
+        return names.isEmpty() ? ALL : new FieldSelection(Set.copyOf(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * Must only be called on a selection which isn't {@link #isAll() all}.
+     *
+     * @return the fields to load from Mongo, the selected ones plus {@code version} which conditional requests need
+     */
+    public Set<String> projection() {
+        var fields = new HashSet<>(names);
+        fields.add("version");
+        return fields;
+    }
+}
@@ -0,0 +1,21 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.business.dto.PlacementOptimizationReportDto;
+
+/**
+ * packs unplaced animals into rooms with spare capacity
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ *
+ */
+public interface PlacementOptimizationService {
+
+    /**
+     * loads all unplaced animals and all rooms with spare capacity, packs the animals of each category
+     * with best-fit-decreasing and commits the plan through batch placements
+     *
+     * @return {@link PlacementOptimizationReportDto} the outcome and timings of the run
+     */
+    PlacementOptimizationReportDto placeUnplacedAnimals();
+}
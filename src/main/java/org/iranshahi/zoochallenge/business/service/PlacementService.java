@@ -2,9 +2,21 @@ package org.iranshahi.zoochallenge.business.service;
 
 
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementDto;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementResultDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto;
 import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
+import org.iranshahi.zoochallenge.exceptions.AnimalNotPlacedException;
+import org.iranshahi.zoochallenge.exceptions.ConcurrencyException;
+import org.iranshahi.zoochallenge.exceptions.NoRoomAvailableException;
+import org.iranshahi.zoochallenge.exceptions.PlacementCommandNotFoundException;
+import org.iranshahi.zoochallenge.exceptions.PlacementQueueFullException;
 import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * manages all placement functionality for animal
  *
@@ -25,6 +37,17 @@ public interface PlacementService {
      */
     AnimalDto place(String animalId, String roomId);
 
+    /**
+     * places an animal in the best-fitting room, the room of its category with the least remaining
+     * volume that still fits the animal, or an empty room if none of them fits
+     *
+     * @param animalId the ID of animal {@code String}
+     * @return {@link AnimalDto} contains animal data and placement
+     * @throws AnimalNotFoundException   if animal not exists with the id it will throw
+     * @throws NoRoomAvailableException if none of the rooms fits the animal
+     */
+    AnimalDto autoPlace(String animalId);
+
     /**
      * removes an animal from a room
      *
@@ -35,4 +58,68 @@ public interface PlacementService {
      */
     AnimalDto remove(String animalId);
 
+    /**
+     * moves a placed animal to another room in one step, the target room is claimed, the animal is updated once
+     * and then the source room is released, so the animal is never in no room
+     *
+     * @param animalId the ID of animal {@code String}
+     * @param roomId   the ID of target room {@code String}
+     * @return {@link AnimalDto} contains animal data and placement
+     * @throws AnimalNotFoundException  if animal not exists with the id it will throw
+     * @throws AnimalNotPlacedException if animal isn't placed in a room
+     * @throws RoomNotFoundException    if there isn't a room with the roomId it will throw
+     * @throws ConcurrencyException     if the animal was moved or removed concurrently
+     */
+    AnimalDto move(String animalId, String roomId);
+
+    /**
+     * places many animals at once, items are grouped by room and validated against each room once,
+     * then all room and animal updates are applied as unordered bulk writes
+     *
+     * @param items the placements {@link BatchPlacementDto.Item}
+     * @return {@link BatchPlacementResultDto} the outcome of every item, in request order
+     */
+    BatchPlacementResultDto placeAll(List<BatchPlacementDto.Item> items);
+
+    /**
+     * queues placing an animal to a room on the room's mailbox, commands of the same room are executed one by one;
+     * without a room it is queued on the mailbox of the best-fitting room at the time of submit
+     *
+     * @param animalId the ID of animal {@code String}
+     * @param roomId   the ID of room {@code String}, {@code null} to place the animal in the best-fitting room
+     * @return {@link PlacementCommandDto} the status of the accepted command
+     * @throws PlacementQueueFullException if too many commands are already queued
+     */
+    PlacementCommandDto submitPlace(String animalId, String roomId);
+
+    /**
+     * queues removing an animal from its room on the room's mailbox
+     *
+     * @param animalId the ID of animal {@code String}
+     * @return {@link PlacementCommandDto} the status of the accepted command
+     * @throws AnimalNotFoundException  if animal not exists with the id it will throw
+     * @throws AnimalNotPlacedException if animal isn't placed in a room
+     * @throws PlacementQueueFullException if too many commands are already queued
+     */
+    PlacementCommandDto submitRemove(String animalId);
+
+    /**
+     * gets the status of a queued placement command
+     *
+     * @param commandId the ID of command {@code String}
+     * @return {@link PlacementCommandDto} the current status of the command
+     * @throws PlacementCommandNotFoundException if the command doesn't exist or has been expired
+     */
+    PlacementCommandDto getCommand(String commandId);
+
+    /**
+     * waits until a queued placement command is finished
+     *
+     * @param commandId the ID of command {@code String}
+     * @param timeout   maximum time to wait {@link Duration}
+     * @return the status of the command, still pending if the timeout elapsed first
+     * @throws PlacementCommandNotFoundException if the command doesn't exist or has been expired
+     */
+    CompletableFuture<PlacementCommandDto> awaitCommand(String commandId, Duration timeout);
+
 }
@@ -0,0 +1,67 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * non-blocking animal management of the {@code reactive} profile, errors are signalled instead of thrown
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ *
+ */
+public interface ReactiveAnimalManagementService {
+
+    /**
+     * @param animalDto the animal to create {@link AnimalDto}
+     * @return {@link AnimalDto} the created animal with its id
+     */
+    Mono<AnimalDto> create(AnimalDto animalDto);
+
+    /**
+     * @param animalId the ID of animal {@code String}
+     * @return {@link AnimalDto} the animal, or {@link AnimalNotFoundException} signalled
+     */
+    Mono<AnimalDto> get(String animalId);
+
+    /**
+     * updates title and located date of an animal
+     *
+     * @param animalId  the ID of animal {@code String}
+     * @param animalDto the new details {@link AnimalDto}
+     * @return {@link AnimalDto} the updated animal, or {@link AnimalNotFoundException} signalled
+     */
+    Mono<AnimalDto> update(String animalId, AnimalDto animalDto);
+
+    /**
+     * deletes an animal and decrements the counters of its favourite rooms
+     *
+     * @param animalId the ID of animal {@code String}
+     * @return completes once deleted
+     */
+    Mono<Void> delete(String animalId);
+
+    /**
+     * @param roomId   the ID of room {@code String}
+     * @param pageable page and sort
+     * @return one page of the animals placed in the room
+     */
+    Mono<Page<AnimalDto>> getAnimalsInRoom(String roomId, Pageable pageable);
+
+    /**
+     * streams the animals matching all given filters in id order, a {@code null} filter matches everything
+     *
+     * @param category     the category of the animals
+     * @param roomId       the room the animals are placed in
+     * @param updatedSince the lower bound, inclusive, of the last update
+     * @return the animals, read from Mongo as they are requested
+     */
+    Flux<AnimalDto> export(Category category, String roomId, Instant updatedSince);
+}
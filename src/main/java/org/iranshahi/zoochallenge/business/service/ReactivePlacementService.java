@@ -0,0 +1,46 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
+import org.iranshahi.zoochallenge.exceptions.AnimalNotPlacedException;
+import org.iranshahi.zoochallenge.exceptions.ConcurrencyException;
+import org.iranshahi.zoochallenge.exceptions.NoRoomAvailableException;
+import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
+import reactor.core.publisher.Mono;
+
+/**
+ * non-blocking placement of the {@code reactive} profile, optimistic lock conflicts are retried after a delay
+ * without holding a thread
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ *
+ */
+public interface ReactivePlacementService {
+
+    /**
+     * places an animal to a room
+     *
+     * @param animalId the ID of animal {@code String}
+     * @param roomId   the ID of room {@code String}
+     * @return {@link AnimalDto} the placed animal, or {@link AnimalNotFoundException}, {@link RoomNotFoundException}
+     * or {@link ConcurrencyException} signalled
+     */
+    Mono<AnimalDto> place(String animalId, String roomId);
+
+    /**
+     * places an animal in the best-fitting room of its category
+     *
+     * @param animalId the ID of animal {@code String}
+     * @return {@link AnimalDto} the placed animal, or {@link NoRoomAvailableException} signalled
+     */
+    Mono<AnimalDto> autoPlace(String animalId);
+
+    /**
+     * removes an animal from its room
+     *
+     * @param animalId the ID of animal {@code String}
+     * @return {@link AnimalDto} the animal, or {@link AnimalNotPlacedException} signalled
+     */
+    Mono<AnimalDto> remove(String animalId);
+}
@@ -0,0 +1,63 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.business.dto.FavouriteRoomDto;
+import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.exceptions.DuplicateRoomTitleException;
+import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * non-blocking room management of the {@code reactive} profile, errors are signalled instead of thrown
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ *
+ */
+public interface ReactiveRoomManagementService {
+
+    /**
+     * @param roomDto the room to create {@link RoomDto}
+     * @return {@link RoomDto} the created room, or {@link DuplicateRoomTitleException} signalled
+     */
+    Mono<RoomDto> create(RoomDto roomDto);
+
+    /**
+     * @param roomId the ID of room {@code String}
+     * @return {@link RoomDto} the room, or {@link RoomNotFoundException} signalled
+     */
+    Mono<RoomDto> get(String roomId);
+
+    /**
+     * renames a room
+     *
+     * @param roomId  the ID of room {@code String}
+     * @param roomDto the new title {@link RoomDto}
+     * @return {@link RoomDto} the renamed room, or {@link RoomNotFoundException} or
+     * {@link DuplicateRoomTitleException} signalled
+     */
+    Mono<RoomDto> update(String roomId, RoomDto roomDto);
+
+    /**
+     * @param roomId the ID of room {@code String}
+     * @return completes once deleted
+     */
+    Mono<Void> delete(String roomId);
+
+    /**
+     * @return the rooms which are a favourite of at least one animal, most favourite room first
+     */
+    Flux<FavouriteRoomDto> favourites();
+
+    /**
+     * streams the rooms matching all given filters in id order, a {@code null} filter matches everything
+     *
+     * @param category     the allowed category of the rooms
+     * @param updatedSince the lower bound, inclusive, of the last update
+     * @return the rooms, read from Mongo as they are requested
+     */
+    Flux<RoomDto> export(Category category, Instant updatedSince);
+}
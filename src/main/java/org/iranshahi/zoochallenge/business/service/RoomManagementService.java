@@ -1,9 +1,15 @@
 package org.iranshahi.zoochallenge.business.service;
 
 
+import org.iranshahi.zoochallenge.business.dto.ExpandedRoomDto;
+import org.iranshahi.zoochallenge.business.dto.IdsDto;
+import org.iranshahi.zoochallenge.business.dto.MultiGetResultDto;
 import org.iranshahi.zoochallenge.business.dto.RoomDto;
 import org.iranshahi.zoochallenge.exceptions.DuplicateRoomTitleException;
 import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
+import org.iranshahi.zoochallenge.exceptions.TooManyIdsException;
+
+import java.util.List;
 
 /**
  * Exposes all required functionality to manage {@code Room}
@@ -46,6 +52,46 @@ public interface RoomManagementService {
      */
     RoomDto get(String roomId) throws RoomNotFoundException;
 
+    /**
+     * gets an exists room by id, loading only the selected fields
+     *
+     * @param roomId the ID of room
+     * @param fields the fields the client asked for {@link FieldSelection}
+     * @return exists room {@link RoomDto}, fields which aren't selected may be empty
+     * @throws RoomNotFoundException if there isn't a room with the roomId it will throw
+     */
+    RoomDto get(String roomId, FieldSelection fields) throws RoomNotFoundException;
+
+    /**
+     * gets an exists room by id with one page of its animals embedded, both read with one aggregation
+     *
+     * @param roomId    the ID of room
+     * @param expansion the relations to embed, {@link Expansion#ANIMALS}
+     * @param page      the zero-based page of animals
+     * @param size      the number of animals in a page, capped to a bounded maximum
+     * @return exists room with the expanded animals {@link ExpandedRoomDto}
+     * @throws RoomNotFoundException if there isn't a room with the roomId it will throw
+     */
+    ExpandedRoomDto getExpanded(String roomId, Expansion expansion, int page, int size) throws RoomNotFoundException;
+
+    /**
+     * gets many rooms, cached rooms are served from the cache and the rest are read with one query
+     *
+     * @param roomIds the IDs of rooms, in the order the result should have
+     * @return {@link MultiGetResultDto} the found rooms in request order and the ids which don't exist
+     * @throws TooManyIdsException if more than {@value IdsDto#MAX_IDS} distinct ids are requested
+     */
+    MultiGetResultDto<RoomDto> getAll(List<String> roomIds);
+
+    /**
+     * gets the current version of a room, without mapping it
+     *
+     * @param roomId the ID of room
+     * @return the version of room, {@code null} if it has never been versioned
+     * @throws RoomNotFoundException if there isn't a room with the roomId it will throw
+     */
+    Long getVersion(String roomId) throws RoomNotFoundException;
+
     /**
      * deletes an exists room
      *
@@ -0,0 +1,40 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.data.model.Category;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+
+/**
+ * exports animals and rooms as newline delimited JSON, one DTO per line
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ *
+ */
+public interface ZooExportService {
+
+    /**
+     * streams the matching animals, ordered by id, from a Mongo cursor into {@code out}
+     *
+     * @param category     only animals of this category, {@code null} for all
+     * @param roomId       only animals placed in this room, {@code null} for all
+     * @param updatedSince only animals changed at or after this instant, {@code null} for all
+     * @param out          the target, not closed
+     * @return the number of exported animals
+     * @throws IOException if writing to {@code out} fails, e.g. the client went away
+     */
+    long exportAnimals(Category category, String roomId, Instant updatedSince, OutputStream out) throws IOException;
+
+    /**
+     * streams the matching rooms, ordered by id, from a Mongo cursor into {@code out}
+     *
+     * @param category     only rooms allowing this category, {@code null} for all
+     * @param updatedSince only rooms changed at or after this instant, {@code null} for all
+     * @param out          the target, not closed
+     * @return the number of exported rooms
+     * @throws IOException if writing to {@code out} fails, e.g. the client went away
+     */
+    long exportRooms(Category category, Instant updatedSince, OutputStream out) throws IOException;
+}
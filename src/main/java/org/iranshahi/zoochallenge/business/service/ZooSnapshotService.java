@@ -0,0 +1,34 @@
+package org.iranshahi.zoochallenge.business.service;
+
+import org.iranshahi.zoochallenge.business.dto.SnapshotReportDto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * dumps and restores rooms, animals and favourite room counters as raw BSON, keeping ids and versions
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ *
+ */
+public interface ZooSnapshotService {
+
+    /**
+     * writes all documents of the zoo collections to {@code file}, replacing it once complete
+     *
+     * @param file the snapshot file
+     * @return {@link SnapshotReportDto} the number of written documents
+     * @throws IOException if writing the file fails
+     */
+    SnapshotReportDto create(Path file) throws IOException;
+
+    /**
+     * replaces the zoo collections with the documents of {@code file}, and builds their indexes again
+     *
+     * @param file a file written by {@link #create(Path)}
+     * @return {@link SnapshotReportDto} the number of restored documents
+     * @throws IOException if reading the file fails, or it isn't a snapshot
+     */
+    SnapshotReportDto restore(Path file) throws IOException;
+}
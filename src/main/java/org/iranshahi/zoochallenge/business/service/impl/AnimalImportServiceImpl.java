@@ -0,0 +1,359 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.AnimalImportReportDto;
+import org.iranshahi.zoochallenge.business.dto.AnimalImportReportDto.LineError;
+import org.iranshahi.zoochallenge.business.service.AnimalImportService;
+import org.iranshahi.zoochallenge.configs.ImportProperties;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.exceptions.InvalidFieldException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Two-stage bulk import of animals: the request thread parses and validates, a writer thread inserts.
+ *
+ * <h3>Pipeline</h3>
+ * <ol>
+ *   <li>The upload is read line by line, each record is parsed, validated and collected into a batch of
+ *   {@code zoo.import.batch-size} animals</li>
+ *   <li>Full batches are handed over through a queue of {@code zoo.import.queue-capacity} batches; when the
+ *   writer falls behind the queue fills up and parsing blocks, so memory stays bounded whatever the upload size</li>
+ *   <li>The writer inserts each batch as one unordered {@code insertMany}, a duplicate or otherwise failing
+ *   animal is reported with its line and doesn't stop the rest of the batch</li>
+ * </ol>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalImportServiceImpl implements AnimalImportService {
+
+    private static final Set<String> CSV_COLUMNS = Set.of("title", "volume", "category", "located");
+    private static final long HAND_OVER_TIMEOUT_SECONDS = 1;
+
+    private final AnimalRepository animalRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ImportProperties importProperties;
+
+    @Override
+    public AnimalImportReportDto importAnimals(InputStream in, Format format) throws IOException {
+        long started = System.nanoTime();
+        var errors = new Errors(importProperties.maxErrors());
+        var writer = new Writer(new ArrayBlockingQueue<>(importProperties.queueCapacity()), errors);
+        var writerThread = Thread.ofPlatform().name("animal-import-writer").start(writer);
+
+        long records = 0;
+        try {
+            var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            long lineNumber = 0;
+            List<String> columns = null;
+            if (format == Format.CSV) {
+                var header = reader.readLine();
+                lineNumber++;
+                columns = header == null ? List.of() : csvHeader(header);
+            }
+
+            var batch = new Batch(importProperties.batchSize());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                records++;
+                try {
+                    var dto = format == Format.CSV ? fromCsv(columns, line) : fromJson(line);
+                    validate(dto);
+                    batch.add(lineNumber, toEntity(dto));
+                } catch (IllegalArgumentException ex) {
+                    errors.add(lineNumber, ex.getMessage());
+                }
+                if (batch.isFull()) {
+                    writer.handOver(batch);
+                    batch = new Batch(importProperties.batchSize());
+                }
+            }
+            writer.handOver(batch);
+        } finally {
+            writer.finish();
+            joinUninterruptibly(writerThread);
+        }
+        writer.rethrowFailure();
+
+        var report = new AnimalImportReportDto(records, writer.imported.get(), errors.count(), errors.listed(),
+                errors.truncated(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Imported {} of {} animals in {} ms", report.imported(), report.records(), report.elapsedMillis());
+        return report;
+    }
+
+    private AnimalDto fromJson(String line) {
+        try {
+            return objectMapper.readValue(line, AnimalDto.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static List<String> csvHeader(String header) {
+        var columns = Csv.split(header).stream().map(column -> column.strip().toLowerCase(Locale.ROOT)).toList();
+        columns.stream()
+                .filter(column -> !CSV_COLUMNS.contains(column))
+                .findFirst()
+                .ifPresent(column -> {
+                    throw new InvalidFieldException(column);
+                });
+        return columns;
+    }
+
+    private static AnimalDto fromCsv(List<String> columns, String line) {
+        var values = Csv.split(line);
+        if (values.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected %d columns but found %d".formatted(columns.size(), values.size()));
+        }
+        var builder = AnimalDto.builder();
+        for (int i = 0; i < columns.size(); i++) {
+            var value = values.get(i).strip();
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                switch (columns.get(i)) {
+                    case "title" -> builder.title(value);
+                    case "volume" -> builder.volume(Double.parseDouble(value));
+                    case "category" -> builder.category(Category.valueOf(value.toUpperCase(Locale.ROOT)));
+                    case "located" -> builder.located(LocalDate.parse(value));
+                    default -> throw new IllegalStateException("Unexpected column " + columns.get(i));
+                }
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Invalid %s '%s'".formatted(columns.get(i), value));
+            }
+        }
+        return builder.build();
+    }
+
+    private void validate(AnimalDto dto) {
+        Set<ConstraintViolation<AnimalDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    /**
+     * Imported animals start unplaced and without favourites, rooms and favourite counters are only changed
+     * through the placement and favourite flows. The version is initialized here, bulk inserts don't do it.
+     */
+    private static Animal toEntity(AnimalDto dto) {
+        var animal = Animal.builder()
+                .title(dto.title())
+                .volume(dto.volume())
+                .category(dto.category())
+                .located(dto.located())
+                .favouriteRoomIds(new HashSet<>())
+                .version(0L)
+                .build();
+        var now = Instant.now();
+        animal.setCreated(now);
+        animal.setUpdated(now);
+        return animal;
+    }
+
+    private static void joinUninterruptibly(Thread thread) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                thread.join();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Batch {
+        private final long[] lines;
+        private final List<Animal> animals;
+
+        private Batch(int size) {
+            this.lines = new long[size];
+            this.animals = new ArrayList<>(size);
+        }
+
+        private void add(long line, Animal animal) {
+            lines[animals.size()] = line;
+            animals.add(animal);
+        }
+
+        private boolean isFull() {
+            return animals.size() == lines.length;
+        }
+    }
+
+    /**
+     * Line errors of one import, the first ones are listed and the rest only counted.
+     */
+    private static final class Errors {
+        private final int max;
+        private final List<LineError> listed = new ArrayList<>();
+        private long count;
+
+        private Errors(int max) {
+            this.max = max;
+        }
+
+        private synchronized void add(long line, String error) {
+            count++;
+            if (listed.size() < max) {
+                listed.add(new LineError(line, error));
+            }
+        }
+
+        private synchronized long count() {
+            return count;
+        }
+
+        private synchronized boolean truncated() {
+            return count > listed.size();
+        }
+
+        private synchronized List<LineError> listed() {
+            return listed.stream().sorted(Comparator.comparingLong(LineError::line)).toList();
+        }
+    }
+
+    private final class Writer implements Runnable {
+        private static final Batch END = new Batch(0);
+
+        private final BlockingQueue<Batch> queue;
+        private final Errors errors;
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private Writer(BlockingQueue<Batch> queue, Errors errors) {
+            this.queue = queue;
+            this.errors = errors;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (var next = queue.take(); next != END; next = queue.take()) {
+                    var batch = next;
+                    var failed = animalRepository.insertUnordered(batch.animals);
+                    failed.forEach((index, error) -> errors.add(batch.lines[index], error));
+                    imported.addAndGet(batch.animals.size() - failed.size());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failure.set(new IllegalStateException("Animal import writer was interrupted", ex));
+            } catch (RuntimeException ex) {
+                log.error("Animal import failed while writing", ex);
+                failure.set(ex);
+            }
+        }
+
+        /**
+         * Queues the batch for writing, blocking while the queue is full; gives up when the writer has failed.
+         */
+        private void handOver(Batch batch) {
+            rethrowFailure();
+            if (batch.animals.isEmpty()) {
+                return;
+            }
+            offer(batch);
+        }
+
+        private void finish() {
+            if (failure.get() == null) {
+                offer(END);
+            }
+        }
+
+        private void offer(Batch batch) {
+            try {
+                while (!queue.offer(batch, HAND_OVER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    rethrowFailure();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while importing animals", ex);
+            }
+        }
+
+        private void rethrowFailure() {
+            var ex = failure.get();
+            if (ex != null) {
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Minimal CSV field splitting: comma separated, fields may be quoted with {@code "} and quotes inside
+     * quoted fields are doubled. Records spanning several lines aren't supported.
+     */
+    private static final class Csv {
+
+        private static List<String> split(String line) {
+            var fields = new ArrayList<String>();
+            var field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted field");
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -1,26 +1,53 @@
 package org.iranshahi.zoochallenge.business.service.impl;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.AnimalSliceDto;
+import org.iranshahi.zoochallenge.business.dto.ExpandedAnimalDto;
+import org.iranshahi.zoochallenge.business.dto.MultiGetResultDto;
 import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.mapper.RoomMapper;
 import org.iranshahi.zoochallenge.business.service.AnimalFavouriteRoomManagementService;
 import org.iranshahi.zoochallenge.business.service.AnimalManagementService;
+import org.iranshahi.zoochallenge.business.service.AnimalSliceCursor;
+import org.iranshahi.zoochallenge.business.service.AnimalSortKey;
+import org.iranshahi.zoochallenge.business.service.Expansion;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
 import org.iranshahi.zoochallenge.data.model.Animal;
-import org.iranshahi.zoochallenge.data.model.Room;
 import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
-import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
 import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
 import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Service
-@RequiredArgsConstructor
 public class AnimalServiceImpl implements AnimalManagementService, AnimalFavouriteRoomManagementService {
     private final AnimalRepository animalRepository;
     private final AnimalMapper animalMapper;
-    private final RoomRepository roomRepository;
+    private final RoomMapper roomMapper;
+    private final RoomCache roomCache;
+    private final FavouriteRoomCounterRepository favouriteRoomCounterRepository;
+    private final SingleFlight<String, Optional<Animal>> animalReads;
+
+    private static final int MAX_SLICE_SIZE = 100;
+
+    public AnimalServiceImpl(AnimalRepository animalRepository, AnimalMapper animalMapper, RoomMapper roomMapper,
+                             RoomCache roomCache, FavouriteRoomCounterRepository favouriteRoomCounterRepository,
+                             MeterRegistry meterRegistry) {
+        this.animalRepository = animalRepository;
+        this.animalMapper = animalMapper;
+        this.roomMapper = roomMapper;
+        this.roomCache = roomCache;
+        this.favouriteRoomCounterRepository = favouriteRoomCounterRepository;
+        this.animalReads = new SingleFlight<>("animal", meterRegistry);
+    }
 
 
     @Override
@@ -37,22 +64,60 @@ public class AnimalServiceImpl implements AnimalManagementService, AnimalFavouri
 
     @Override
     public AnimalDto update(String animalId, AnimalDto animalDto) {
-        var existing = findAnimalById(animalId);
-        existing.setTitle(animalDto.title());
-        existing.setLocated(animalDto.located());
-        existing = animalRepository.save(existing);
-        return animalMapper.toDto(existing);
+        return animalRepository.updateDetails(animalId, animalDto.title(), animalDto.located())
+                .map(animalMapper::toDto)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
     }
 
+    /**
+     * Concurrent reads of the same animal share one query, the shared entity is only mapped, never modified.
+     */
     @Override
     public AnimalDto get(String animalId) {
-        return animalMapper.toDto(findAnimalById(animalId));
+        return animalReads.load(animalId, animalRepository::findById)
+                .map(animalMapper::toDto)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+    }
+
+    @Override
+    public AnimalDto get(String animalId, FieldSelection fields) {
+        if (fields.isAll()) {
+            return get(animalId);
+        }
+        return animalRepository.findProjectedById(animalId, fields.projection())
+                .map(animalMapper::toDto)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+    }
+
+    @Override
+    public ExpandedAnimalDto getExpanded(String animalId, Expansion expansion) {
+        var found = animalRepository.findWithRoomsById(animalId,
+                        expansion.has(Expansion.ROOM), expansion.has(Expansion.FAVOURITES))
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        var favouriteRooms = found.favouriteRooms() == null
+                ? null
+                : found.favouriteRooms().stream().map(roomMapper::toSummaryDto).toList();
+        return new ExpandedAnimalDto(animalMapper.toDto(found.animal()), roomMapper.toSummaryDto(found.room()),
+                favouriteRooms);
+    }
+
+    @Override
+    public MultiGetResultDto<AnimalDto> getAll(List<String> animalIds) {
+        return MultiGet.resolve(animalIds, animalRepository::findAllById, Animal::getId, animalMapper::toDto);
+    }
+
+    @Override
+    public Long getVersion(String animalId) {
+        return animalRepository.findVersionById(animalId)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId))
+                .getVersion();
     }
 
     @Override
     public void delete(String animalId) {
         try {
-            animalRepository.deleteById(animalId);
+            animalRepository.deleteReturningFavourites(animalId)
+                    .ifPresent(animal -> favouriteRoomCounterRepository.decrement(animal.getFavouriteRoomIds()));
         } catch (Exception ex) {
             //todo reza find the correct exception throws by hibernate
             throw new AnimalNotFoundException(animalId);
@@ -60,30 +125,60 @@ public class AnimalServiceImpl implements AnimalManagementService, AnimalFavouri
     }
 
 
-    private Room findRoomById(String roomId) {
-        return roomRepository.findById(roomId).orElseThrow(() -> new RoomNotFoundException(roomId));
-    }
-
-
     @Override
     public AnimalDto addFavouriteRoom(String animalId, String roomId) {
-        var animal = findAnimalById(animalId);
-        var room = findRoomById(roomId);
-        animal.getFavouriteRoomIds().add(room.getId());
-        animal = animalRepository.save(animal);
-        return animalMapper.toDto(animal);
+        var room = roomCache.find(roomId).orElseThrow(() -> new RoomNotFoundException(roomId));
+        var updated = animalRepository.addFavouriteRoom(animalId, roomId);
+        updated.ifPresent(animal -> favouriteRoomCounterRepository.increment(roomId, room.getTitle(), 1));
+        return animalMapper.toDto(updated.orElseGet(() -> findAnimalById(animalId)));
     }
 
     @Override
     public AnimalDto removeFavouriteRoom(String animalId, String roomId) {
-        var animal = findAnimalById(animalId);
-        animal.getFavouriteRoomIds().remove(roomId);
-        animal = animalRepository.save(animal);
-        return animalMapper.toDto(animal);
+        var updated = animalRepository.removeFavouriteRoom(animalId, roomId);
+        updated.ifPresent(animal -> favouriteRoomCounterRepository.decrement(List.of(roomId)));
+        return animalMapper.toDto(updated.orElseGet(() -> findAnimalById(animalId)));
     }
 
     public Page<AnimalDto> getAnimalsInRoom(String roomId, Pageable pageable) {
         var animalsInRoom = animalRepository.findByRoomId(roomId, pageable);
         return animalMapper.toDtoPage(animalsInRoom);
     }
+
+    @Override
+    public Page<AnimalDto> getAnimalsInRoom(String roomId, Pageable pageable, FieldSelection fields) {
+        if (fields.isAll()) {
+            return getAnimalsInRoom(roomId, pageable);
+        }
+        var animalsInRoom = animalRepository.findProjectedByRoomId(roomId, pageable, fields.projection());
+        return animalMapper.toDtoPage(animalsInRoom);
+    }
+
+    @Override
+    public AnimalSliceDto getAnimalsInRoom(String roomId, AnimalSortKey sortKey, Sort.Direction direction,
+                                           int size, String cursor, FieldSelection fields) {
+        var after = AnimalSliceCursor.decode(cursor);
+        if (after != null) {
+            sortKey = after.sortKey();
+            direction = after.direction();
+        }
+        Set<String> projection = null;
+        if (!fields.isAll()) {
+            projection = fields.projection();
+            projection.add(sortKey.field());
+        }
+        int limit = Math.clamp(size, 1, MAX_SLICE_SIZE);
+        var animals = animalRepository.findSliceByRoomId(roomId, sortKey.field(), direction,
+                after == null ? null : after.typedValue(),
+                after == null ? null : after.animalId(),
+                limit + 1, projection);
+
+        var content = animals.stream().limit(limit).map(animalMapper::toDto).toList();
+        String next = null;
+        if (animals.size() > limit) {
+            var last = animals.get(limit - 1);
+            next = new AnimalSliceCursor(sortKey, direction, sortKey.format(last), last.getId()).encode();
+        }
+        return new AnimalSliceDto(content, next);
+    }
 }
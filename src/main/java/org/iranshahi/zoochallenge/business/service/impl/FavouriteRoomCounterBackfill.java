@@ -0,0 +1,55 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the favourite room counters on startup when there are none yet.
+ *
+ * <p>
+ * The counters are only maintained incrementally, so after the first deployment with them, or after they were
+ * dropped, the favourite rooms report would stay empty until a rebuild. Counters which already exist are left
+ * as they are; drifted counts are repaired with {@code POST /api/rooms/favourites/rebuild}.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FavouriteRoomCounterBackfill implements SmartLifecycle {
+
+    private final FavouriteRoomCounterRepository counterRepository;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (counterRepository.count() == 0) {
+            counterRepository.rebuild();
+            log.info("Built the favourite counters of {} rooms", counterRepository.count());
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * After a snapshot restore, which replaces the rooms and animals.
+     */
+    @Override
+    public int getPhase() {
+        return ZooSnapshotRunner.PHASE + 300;
+    }
+}
@@ -0,0 +1,55 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import org.iranshahi.zoochallenge.business.dto.IdsDto;
+import org.iranshahi.zoochallenge.business.dto.MultiGetResultDto;
+import org.iranshahi.zoochallenge.exceptions.TooManyIdsException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Resolves a list of ids with one lookup of the distinct ids and restores the request order.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+final class MultiGet {
+
+    private MultiGet() {
+    }
+
+    /**
+     * @param ids    the requested ids, possibly repeated
+     * @param lookup reads the entities of the distinct ids at once, e.g. one {@code $in} query
+     * @param idOf   the id of an entity
+     * @param toDto  maps a found entity
+     * @throws TooManyIdsException if more than {@value IdsDto#MAX_IDS} distinct ids are requested
+     */
+    static <E, D> MultiGetResultDto<D> resolve(List<String> ids,
+                                               Function<Collection<String>, ? extends Iterable<E>> lookup,
+                                               Function<E, String> idOf,
+                                               Function<E, D> toDto) {
+        var distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > IdsDto.MAX_IDS) {
+            throw new TooManyIdsException(distinct.size(), IdsDto.MAX_IDS);
+        }
+        var found = new HashMap<String, E>(distinct.size() * 2);
+        lookup.apply(distinct).forEach(entity -> found.put(idOf.apply(entity), entity));
+
+        var items = new ArrayList<D>(found.size());
+        var missing = new ArrayList<String>();
+        for (var id : distinct) {
+            var entity = found.get(id);
+            if (entity == null) {
+                missing.add(id);
+            } else {
+                items.add(toDto.apply(entity));
+            }
+        }
+        return new MultiGetResultDto<>(items, missing);
+    }
+}
@@ -0,0 +1,198 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto.CommandStatus;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto.CommandType;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.exceptions.PlacementCommandNotFoundException;
+import org.iranshahi.zoochallenge.exceptions.PlacementQueueFullException;
+import org.iranshahi.zoochallenge.exceptions.ZooBusinessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Actor-style mailboxes for placement commands, keyed by room id.
+ *
+ * <p>
+ * Commands of the same room are chained one after another, so they never race on the room's
+ * {@code version}; commands of different rooms run in parallel on a shared worker pool.
+ * Contention on a hot room turns into queueing instead of failed Mongo writes and sleeping threads.
+ * </p>
+ *
+ * <h3>Performance Notes</h3>
+ * <ul>
+ *   <li>A mailbox is just the tail {@link CompletableFuture} of its room, idle rooms hold no memory</li>
+ *   <li>The number of queued commands is bounded by {@code zoo.placement.queue.max-pending}</li>
+ *   <li>Finished commands are kept for {@code zoo.placement.queue.retention} and purged lazily</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Component
+public class PlacementCommandQueue {
+
+    private static final CompletableFuture<Void> IDLE = CompletableFuture.completedFuture(null);
+    private static final int PURGE_INTERVAL = 256;
+
+    private final Map<String, CompletableFuture<Void>> mailboxes = new ConcurrentHashMap<>();
+    private final Map<String, Command> commands = new ConcurrentHashMap<>();
+    private final AtomicInteger submissions = new AtomicInteger();
+    private final Semaphore pending;
+    private final int maxPending;
+    private final ExecutorService workers;
+    private final Duration retention;
+
+    public PlacementCommandQueue(PlacementProperties placementProperties) {
+        var queue = placementProperties.queue();
+        this.maxPending = queue.maxPending();
+        this.pending = new Semaphore(maxPending);
+        this.retention = queue.retention();
+        var threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(queue.workers(),
+                runnable -> new Thread(runnable, "placement-mailbox-" + threadCount.incrementAndGet()));
+    }
+
+    /**
+     * Appends a command to the mailbox of the room.
+     *
+     * @param type     the type of command
+     * @param mailbox  the key of mailbox which executes the command, usually the room id
+     * @param animalId the ID of animal {@code String}
+     * @param roomId   the ID of room, {@code null} when it is picked automatically
+     * @param action   the placement to execute
+     * @return the status of the accepted command
+     * @throws PlacementQueueFullException if too many commands are already queued
+     */
+    public PlacementCommandDto submit(CommandType type, String mailbox, String animalId, String roomId,
+                                      Supplier<AnimalDto> action) {
+        if (!pending.tryAcquire()) {
+            throw new PlacementQueueFullException(maxPending);
+        }
+        if (submissions.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purgeExpired();
+        }
+
+        var command = new Command(UUID.randomUUID().toString(), type, animalId, roomId, Instant.now());
+        commands.put(command.id, command);
+
+        var tail = mailboxes.compute(mailbox, (key, previous) ->
+                (previous == null ? IDLE : previous).handleAsync((ignored, error) -> {
+                    try {
+                        command.run(action);
+                    } finally {
+                        pending.release();
+                    }
+                    return null;
+                }, workers));
+        tail.whenComplete((ignored, error) -> mailboxes.remove(mailbox, tail));
+
+        log.debug("Placement command [{}] queued on mailbox [{}]", command.id, mailbox);
+        return command.toDto();
+    }
+
+    /**
+     * @param commandId the ID of command
+     * @return the current status of the command
+     * @throws PlacementCommandNotFoundException if the command doesn't exist or has been purged
+     */
+    public PlacementCommandDto get(String commandId) {
+        return find(commandId).toDto();
+    }
+
+    /**
+     * Waits without blocking the caller until the command is finished or the timeout elapses.
+     *
+     * @param commandId the ID of command
+     * @param timeout   maximum time to wait
+     * @return a future of the command status, still {@code PENDING} if the timeout elapsed first
+     * @throws PlacementCommandNotFoundException if the command doesn't exist or has been purged
+     */
+    public CompletableFuture<PlacementCommandDto> await(String commandId, Duration timeout) {
+        var command = find(commandId);
+        return command.completion
+                .handle((result, error) -> command)
+                .completeOnTimeout(command, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(Command::toDto);
+    }
+
+    private Command find(String commandId) {
+        var command = commands.get(commandId);
+        if (command == null) {
+            throw new PlacementCommandNotFoundException(commandId);
+        }
+        return command;
+    }
+
+    private void purgeExpired() {
+        var expiry = Instant.now().minus(retention);
+        commands.values().removeIf(command -> command.completed != null && command.completed.isBefore(expiry));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    private static final class Command {
+        private final String id;
+        private final CommandType type;
+        private final String animalId;
+        private final String roomId;
+        private final Instant submitted;
+        private final CompletableFuture<AnimalDto> completion = new CompletableFuture<>();
+        private volatile Instant completed;
+
+        private Command(String id, CommandType type, String animalId, String roomId, Instant submitted) {
+            this.id = id;
+            this.type = type;
+            this.animalId = animalId;
+            this.roomId = roomId;
+            this.submitted = submitted;
+        }
+
+        private void run(Supplier<AnimalDto> action) {
+            try {
+                var result = action.get();
+                completed = Instant.now();
+                completion.complete(result);
+            } catch (RuntimeException e) {
+                completed = Instant.now();
+                completion.completeExceptionally(e);
+            }
+        }
+
+        private PlacementCommandDto toDto() {
+            var dto = PlacementCommandDto.builder()
+                    .id(id)
+                    .type(type)
+                    .animalId(animalId)
+                    .roomId(roomId)
+                    .submitted(submitted)
+                    .completed(completed);
+            if (!completion.isDone()) {
+                return dto.status(CommandStatus.PENDING).build();
+            }
+            try {
+                return dto.status(CommandStatus.DONE).result(completion.join()).build();
+            } catch (CompletionException e) {
+                var cause = e.getCause();
+                return dto.status(CommandStatus.FAILED)
+                        .errorCode(cause instanceof ZooBusinessException zoo ? zoo.getErrorCode() : null)
+                        .error(cause.getMessage())
+                        .build();
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import io.micrometer.core.instrument.*;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.exceptions.ConcurrencyException;
+import org.iranshahi.zoochallenge.exceptions.ZooBusinessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Micrometer instrumentation of placements, plus a sliding window of conflicts per room.
+ *
+ * <h3>Meters</h3>
+ * <ul>
+ *   <li>{@code zoo.placement.latency} — timer of every placement, tagged with {@code outcome} and {@code mode}</li>
+ *   <li>{@code zoo.placement.attempts} — histogram of attempts needed by a successful placement</li>
+ *   <li>{@code zoo.placement.retries} — counter of optimistic lock conflicts which caused a retry</li>
+ *   <li>{@code zoo.placement.backoff} — timer of the time spent sleeping between retries</li>
+ *   <li>{@code zoo.placement.rejections} — counter of rejected placements, tagged with the error {@code code}</li>
+ * </ul>
+ *
+ * <p>
+ * Conflicts are also counted per room in {@code zoo.placement.contention.buckets} slices of
+ * {@code zoo.placement.contention.window}; only rooms with recent conflicts hold memory.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Component
+public class PlacementMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final String mode;
+    private final DistributionSummary attempts;
+    private final Counter retries;
+    private final Timer backoff;
+    private final Map<String, SlidingCounter> conflictsByRoom = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final long bucketNanos;
+    private final int buckets;
+    private final int defaultTop;
+
+    public PlacementMetrics(MeterRegistry meterRegistry, PlacementProperties placementProperties) {
+        this.meterRegistry = meterRegistry;
+        this.mode = placementProperties.mode().name();
+        this.attempts = DistributionSummary.builder("zoo.placement.attempts")
+                .description("Attempts needed by a successful placement")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.retries = Counter.builder("zoo.placement.retries")
+                .description("Optimistic lock conflicts which caused a retry")
+                .register(meterRegistry);
+        this.backoff = Timer.builder("zoo.placement.backoff")
+                .description("Time spent sleeping between placement retries")
+                .register(meterRegistry);
+
+        var contention = placementProperties.contention();
+        this.window = contention.window();
+        this.buckets = contention.buckets();
+        this.bucketNanos = Math.max(1, window.toNanos() / buckets);
+        this.defaultTop = contention.top();
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * @param sample the sample started with the placement
+     */
+    public void placed(Timer.Sample sample) {
+        sample.stop(latency("placed"));
+    }
+
+    /**
+     * @param attempts the number of attempts a successful placement needed
+     */
+    public void attempts(int attempts) {
+        this.attempts.record(attempts);
+    }
+
+    /**
+     * @param sample the sample started with the placement
+     * @param roomId the ID of target room
+     * @param error  the reason of rejection
+     */
+    public void rejected(Timer.Sample sample, String roomId, ZooBusinessException error) {
+        sample.stop(latency("rejected"));
+        meterRegistry.counter("zoo.placement.rejections", "code", error.getErrorCode()).increment();
+        if (error instanceof ConcurrencyException && roomId != null) {
+            conflict(roomId);
+        }
+    }
+
+    /**
+     * Counts an optimistic lock conflict on the room, which is retried.
+     */
+    public void retried(String roomId, Duration slept) {
+        retries.increment();
+        backoff.record(slept);
+        conflict(roomId);
+    }
+
+    /**
+     * @param limit maximum number of rooms, {@code zoo.placement.contention.top} when {@code null}, none when negative
+     * @return the rooms with the most conflicts in the current window, most contended first
+     */
+    public ContentionReport contention(Integer limit) {
+        int top = Math.clamp(limit == null ? defaultTop : limit, 0, Integer.MAX_VALUE);
+        long now = System.nanoTime();
+        var rooms = conflictsByRoom.entrySet().stream()
+                .map(entry -> new ContendedRoom(entry.getKey(), entry.getValue().total(now)))
+                .filter(room -> room.conflicts() > 0)
+                .sorted(Comparator.comparingLong(ContendedRoom::conflicts).reversed())
+                .limit(top)
+                .toList();
+        conflictsByRoom.values().removeIf(counter -> counter.total(now) == 0);
+        return new ContentionReport(window.toString(), rooms);
+    }
+
+    private void conflict(String roomId) {
+        conflictsByRoom.computeIfAbsent(roomId, key -> new SlidingCounter()).increment(System.nanoTime());
+    }
+
+    private Timer latency(String outcome) {
+        return Timer.builder("zoo.placement.latency")
+                .description("Latency of placements")
+                .tags("mode", mode, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public record ContentionReport(String window, List<ContendedRoom> rooms) {
+    }
+
+    public record ContendedRoom(String roomId, long conflicts) {
+    }
+
+    /**
+     * Ring of counters, each slot remembers the slice it was last used for and is reset when reused.
+     */
+    private final class SlidingCounter {
+        private final long[] counts = new long[buckets];
+        private final long[] slices = new long[buckets];
+
+        private synchronized void increment(long now) {
+            long slice = now / bucketNanos;
+            int index = (int) Math.floorMod(slice, (long) buckets);
+            if (slices[index] != slice) {
+                slices[index] = slice;
+                counts[index] = 0;
+            }
+            counts[index]++;
+        }
+
+        private synchronized long total(long now) {
+            long oldest = now / bucketNanos - buckets + 1;
+            long total = 0;
+            for (int i = 0; i < buckets; i++) {
+                if (slices[i] >= oldest) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
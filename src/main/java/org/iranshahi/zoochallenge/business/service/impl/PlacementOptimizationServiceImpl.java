@@ -0,0 +1,229 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementDto;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementResultDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementOptimizationReportDto;
+import org.iranshahi.zoochallenge.business.service.PlacementOptimizationService;
+import org.iranshahi.zoochallenge.business.service.PlacementService;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Best-fit-decreasing bin packing of unplaced animals.
+ *
+ * <h3>Algorithm</h3>
+ * <ol>
+ *   <li>Animals of each category are sorted by volume, largest first, and packed into the rooms of their
+ *   category; every animal goes to the room with the least free volume that still fits it. Categories are
+ *   independent, so they are packed in parallel on the common fork-join pool.</li>
+ *   <li>What is left is packed into empty rooms, which are shared by all categories and therefore handed out
+ *   sequentially; a category opens the smallest empty room that fits all of its leftover volume, or the
+ *   largest one if none does.</li>
+ *   <li>The plan is committed through {@link PlacementService#placeAll(List)}, which validates every item
+ *   against the current room again, so concurrent placements can never overfill a room.</li>
+ * </ol>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlacementOptimizationServiceImpl implements PlacementOptimizationService {
+
+    private static final double EPSILON = 1e-9;
+    private static final Comparator<Bin> BY_FREE_VOLUME = Comparator.comparingDouble(Bin::free).thenComparing(Bin::roomId);
+    private static final Comparator<Animal> LARGEST_FIRST = Comparator.comparingDouble(Animal::getVolume).reversed();
+
+    private final AnimalRepository animalRepository;
+    private final RoomRepository roomRepository;
+    private final PlacementService placementService;
+
+    @Override
+    public PlacementOptimizationReportDto placeUnplacedAnimals() {
+        long started = System.nanoTime();
+
+        Map<Category, List<Animal>> animalsByCategory;
+        try (var unplaced = animalRepository.streamUnplaced()) {
+            animalsByCategory = unplaced
+                    .filter(animal -> animal.getCategory() != null)
+                    .collect(Collectors.groupingBy(Animal::getCategory, () -> new EnumMap<>(Category.class), Collectors.toList()));
+        }
+        int unplacedCount = animalsByCategory.values().stream().mapToInt(List::size).sum();
+
+        Map<Category, List<Bin>> roomsByCategory = new EnumMap<>(Category.class);
+        NavigableSet<Bin> emptyRooms = new TreeSet<>(BY_FREE_VOLUME);
+        try (var rooms = roomRepository.streamWithFreeCapacity()) {
+            rooms.forEach(room -> {
+                var bin = new Bin(room.getId(), room.getCapacity(), room.getCapacity() - room.getUsedVolume());
+                if (room.getAllowedCategory() == null) {
+                    emptyRooms.add(bin);
+                } else {
+                    roomsByCategory.computeIfAbsent(room.getAllowedCategory(), key -> new ArrayList<>()).add(bin);
+                }
+            });
+        }
+
+        long planStarted = System.nanoTime();
+        Map<Category, List<Animal>> leftovers = animalsByCategory.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> pack(entry.getValue(), roomsByCategory.getOrDefault(entry.getKey(), List.of()))));
+        List<Bin> openedRooms = packIntoEmptyRooms(leftovers, emptyRooms);
+        long planMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - planStarted);
+
+        List<Bin> usedRooms = new ArrayList<>(openedRooms);
+        roomsByCategory.values().forEach(bins -> bins.stream().filter(Bin::used).forEach(usedRooms::add));
+
+        var committed = commit(usedRooms);
+        var committedRooms = usedRooms.stream().filter(bin -> committed.placedRooms().contains(bin.roomId())).toList();
+        double leftoverVolume = committedRooms.stream().mapToDouble(Bin::free).sum();
+        double capacity = committedRooms.stream().mapToDouble(Bin::capacity).sum();
+
+        var report = new PlacementOptimizationReportDto(
+                unplacedCount,
+                committed.placed(),
+                committed.failed(),
+                committedRooms.size(),
+                leftoverVolume,
+                capacity == 0 ? 0 : leftoverVolume / capacity,
+                planMillis,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Placement optimization finished: {}", report);
+        return report;
+    }
+
+    /**
+     * Best-fit-decreasing over the given rooms.
+     *
+     * @return the animals which didn't fit in any room, largest first
+     */
+    private List<Animal> pack(List<Animal> animals, List<Bin> categoryRooms) {
+        NavigableSet<Bin> rooms = new TreeSet<>(BY_FREE_VOLUME);
+        rooms.addAll(categoryRooms);
+        animals.sort(LARGEST_FIRST);
+        List<Animal> leftover = new ArrayList<>();
+        for (var animal : animals) {
+            var room = rooms.ceiling(Bin.probe(animal.getVolume()));
+            if (room == null) {
+                leftover.add(animal);
+                continue;
+            }
+            rooms.remove(room);
+            room.add(animal);
+            rooms.add(room);
+        }
+        return leftover;
+    }
+
+    private List<Bin> packIntoEmptyRooms(Map<Category, List<Animal>> leftovers, NavigableSet<Bin> emptyRooms) {
+        List<Bin> opened = new ArrayList<>();
+        var largestFirst = leftovers.values().stream()
+                .filter(animals -> !animals.isEmpty())
+                .sorted(Comparator.comparingDouble(PlacementOptimizationServiceImpl::totalVolume).reversed())
+                .toList();
+
+        for (var animals : largestFirst) {
+            NavigableSet<Bin> categoryRooms = new TreeSet<>(BY_FREE_VOLUME);
+            double remaining = totalVolume(animals);
+            for (var animal : animals) {
+                var room = categoryRooms.ceiling(Bin.probe(animal.getVolume()));
+                if (room == null && !emptyRooms.isEmpty()) {
+                    var candidate = Optional.ofNullable(emptyRooms.ceiling(Bin.probe(remaining))).orElse(emptyRooms.last());
+                    if (candidate.free() + EPSILON >= animal.getVolume()) {
+                        emptyRooms.remove(candidate);
+                        opened.add(candidate);
+                        room = candidate;
+                    }
+                }
+                remaining -= animal.getVolume();
+                if (room == null) {
+                    continue;
+                }
+                categoryRooms.remove(room);
+                room.add(animal);
+                categoryRooms.add(room);
+            }
+        }
+        return opened;
+    }
+
+    private Committed commit(List<Bin> usedRooms) {
+        List<BatchPlacementDto.Item> items = new ArrayList<>();
+        usedRooms.forEach(room -> room.animalIds().forEach(animalId ->
+                items.add(new BatchPlacementDto.Item(animalId, room.roomId()))));
+
+        int placed = 0;
+        int failed = 0;
+        Set<String> placedRooms = new HashSet<>();
+        for (int from = 0; from < items.size(); from += BatchPlacementDto.MAX_ITEMS) {
+            var result = placementService.placeAll(items.subList(from, Math.min(items.size(), from + BatchPlacementDto.MAX_ITEMS)));
+            placed += result.placed();
+            failed += result.failed();
+            result.items().stream()
+                    .filter(BatchPlacementResultDto.ItemResult::placed)
+                    .forEach(item -> placedRooms.add(item.roomId()));
+        }
+        return new Committed(placed, failed, placedRooms);
+    }
+
+    private static double totalVolume(List<Animal> animals) {
+        return animals.stream().mapToDouble(Animal::getVolume).sum();
+    }
+
+    private record Committed(int placed, int failed, Set<String> placedRooms) {
+    }
+
+    /**
+     * A room seen as a bin, only touched by the thread packing its category.
+     */
+    private static final class Bin {
+        private final String roomId;
+        private final double capacity;
+        private final List<String> animalIds = new ArrayList<>();
+        private double free;
+
+        private Bin(String roomId, double capacity, double free) {
+            this.roomId = roomId;
+            this.capacity = capacity;
+            this.free = free;
+        }
+
+        private static Bin probe(double volume) {
+            return new Bin("", 0, volume - EPSILON);
+        }
+
+        private void add(Animal animal) {
+            animalIds.add(animal.getId());
+            free -= animal.getVolume();
+        }
+
+        private String roomId() {
+            return roomId;
+        }
+
+        private double capacity() {
+            return capacity;
+        }
+
+        private double free() {
+            return free;
+        }
+
+        private List<String> animalIds() {
+            return animalIds;
+        }
+
+        private boolean used() {
+            return !animalIds.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.exceptions.CategoryMismatchException;
+import org.iranshahi.zoochallenge.exceptions.RoomOutOfSpaceException;
+
+/**
+ * Placement rules applied on in-memory rooms, shared by the blocking and the reactive placement services
+ * which then save the room with its version check.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+final class PlacementRules {
+
+    private static final double VOLUME_TOLERANCE = 1e-9;
+
+    private PlacementRules() {
+    }
+
+    /**
+     * @throws CategoryMismatchException if the room is reserved for another category
+     * @throws RoomOutOfSpaceException   if the remaining volume of the room doesn't fit the animal
+     */
+    static void check(Room room, Animal animal) {
+        if (room.getAllowedCategory() != null && room.getAllowedCategory() != animal.getCategory()) {
+            throw new CategoryMismatchException(room.getAllowedCategory().name(), animal.getCategory().name());
+        }
+
+        double remaining = room.getCapacity() - room.getUsedVolume();
+        if (animal.getVolume() > remaining + VOLUME_TOLERANCE) {
+            throw new RoomOutOfSpaceException(room.getId());
+        }
+    }
+
+    /**
+     * Adds the animal to the counters of the room, and reserves an empty room for its category.
+     */
+    static void occupy(Room room, Animal animal, boolean embedded) {
+        room.setUsedVolume(room.getUsedVolume() + animal.getVolume());
+        room.setAnimalCount(room.getAnimalCount() + 1);
+        if (embedded) {
+            room.getAnimalIds().add(animal.getId());
+        } else {
+            // legacy ids aren't kept, so a save doesn't write them back
+            room.setAnimalIds(null);
+        }
+        if (room.getAllowedCategory() == null) {
+            room.setAllowedCategory(animal.getCategory());
+        }
+    }
+
+    /**
+     * Removes the animal from the counters of the room, a room left empty accepts any category again.
+     */
+    static void vacate(Room room, Animal animal, boolean embedded) {
+        room.setUsedVolume(Math.max(0, room.getUsedVolume() - animal.getVolume()));
+        room.setAnimalCount(Math.max(0, room.getAnimalCount() - 1));
+        if (embedded) {
+            room.getAnimalIds().remove(animal.getId());
+        } else {
+            room.setAnimalIds(null);
+        }
+
+        if (embedded ? room.getAnimalIds().isEmpty() : room.getAnimalCount() == 0) {
+            room.setAllowedCategory(null);
+        }
+    }
+}
@@ -3,17 +3,34 @@ package org.iranshahi.zoochallenge.business.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementDto;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementResultDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto.CommandType;
 import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
 import org.iranshahi.zoochallenge.business.service.PlacementService;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.PlacementMode;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
 import org.iranshahi.zoochallenge.data.model.Animal;
 import org.iranshahi.zoochallenge.data.model.Room;
 import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
 import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.iranshahi.zoochallenge.data.repository.RoomRepositoryCustom.SpaceClaim;
 import org.iranshahi.zoochallenge.exceptions.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,30 +39,36 @@ public class PlacementServiceImpl implements PlacementService {
     private final RoomRepository roomRepository;
     private final AnimalRepository animalRepository;
     private final AnimalMapper animalMapper;
+    private final PlacementProperties placementProperties;
+    private final PlacementCommandQueue placementCommandQueue;
+    private final RoomCapacityIndex roomCapacityIndex;
+    private final RoomProperties roomProperties;
+    private final PlacementMetrics placementMetrics;
+    private final RoomCache roomCache;
 
 
     private static final int MAX_RETRIES = 4;
+    private static final String AUTO_PLACEMENT_MAILBOX = "auto-placement";
 
+    /**
+     * The proxy of this service, so the placements run by the mailboxes get the transaction of {@link #place}
+     * and {@link #remove}, which a call on {@code this} would bypass.
+     */
+    private PlacementService self = this;
 
-    private void checkRules(Room room, Animal animal) {
-        if (room.getAllowedCategory() != null && room.getAllowedCategory() != animal.getCategory()) {
-            throw new CategoryMismatchException(room.getAllowedCategory().name(), animal.getCategory().name());
-        }
+    @Autowired
+    void setSelf(@Lazy PlacementService self) {
+        this.self = self;
+    }
 
-        double remaining = room.getCapacity() - room.getUsedVolume();
-        if (animal.getVolume() > remaining + 1e-9) {
-            throw new RoomOutOfSpaceException(room.getId());
-        }
 
+    private void checkRules(Room room, Animal animal) {
+        PlacementRules.check(room, animal);
     }
 
     private void updateRoom(Room room, Animal animal) {
-        room.setUsedVolume(room.getUsedVolume() + animal.getVolume());
-        room.getAnimalIds().add(animal.getId());
-        if (room.getAllowedCategory() == null) {
-            room.setAllowedCategory(animal.getCategory());
-        }
-        roomRepository.save(room);
+        PlacementRules.occupy(room, animal, roomProperties.embedded());
+        roomChanged(roomRepository.save(room));
 
     }
 
@@ -57,6 +80,27 @@ public class PlacementServiceImpl implements PlacementService {
     @Override
     @Transactional
     public AnimalDto place(String animalId, String roomId) {
+        return measured(roomId, () -> placementProperties.mode() == PlacementMode.ATOMIC
+                ? placeAtomically(animalId, roomId)
+                : placeOptimistically(animalId, roomId));
+    }
+
+    /**
+     * Records the latency and outcome of a placement, the attempts are recorded by the placement itself.
+     */
+    private AnimalDto measured(String roomId, Supplier<AnimalDto> placement) {
+        var sample = placementMetrics.start();
+        try {
+            var placed = placement.get();
+            placementMetrics.placed(sample);
+            return placed;
+        } catch (ZooBusinessException e) {
+            placementMetrics.rejected(sample, roomId, e);
+            throw e;
+        }
+    }
+
+    private AnimalDto placeOptimistically(String animalId, String roomId) {
         for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
             try {
                 Animal animal = animalRepository.findById(animalId)
@@ -72,22 +116,102 @@ public class PlacementServiceImpl implements PlacementService {
                 updateRoom(room, animal);
                 updateAnimal(room, animal);
 
+                placementMetrics.attempts(attempt);
                 log.debug("Animal [{}] placed in room [{}] (attempt {})", animalId, roomId, attempt);
                 return animalMapper.toDto(animal);
 
             } catch (OptimisticLockingFailureException e) {
                 log.warn("Optimistic lock conflict placing animal [{}] in room [{}], retry {}/{}",
                         animalId, roomId, attempt, MAX_RETRIES);
-                sleepBackoff(attempt);
-
                 if (attempt == MAX_RETRIES) {
                     throw new ConcurrencyException();
                 }
+                placementMetrics.retried(roomId, sleepBackoff(attempt));
             }
         }
         throw new ConcurrencyException();
     }
 
+    /**
+     * Places the animal with one conditional room update and one conditional animal update,
+     * the rules are checked by Mongo in the room filter so no retry or backoff is needed.
+     */
+    private AnimalDto placeAtomically(String animalId, String roomId) {
+        Animal animal = animalRepository.findById(animalId)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        return placeAtomically(animal, roomId);
+    }
+
+    /**
+     * Claims the target room first, then moves the animal with one update conditioned on its current room and
+     * releases the previous room last; the animal is never without a room and its space can't be taken meanwhile.
+     */
+    private AnimalDto placeAtomically(Animal animal, String roomId) {
+        var animalId = animal.getId();
+        if (roomId.equals(animal.getRoomId())) {
+            return animalMapper.toDto(animal);
+        }
+
+        var claimed = roomRepository.claimSpace(roomId, animalId, animal.getCategory(), animal.getVolume())
+                .orElseThrow(() -> rejectionOf(roomId, animal));
+        roomChanged(claimed);
+
+        var previousRoomId = animal.getRoomId();
+        if (!animalRepository.assignRoom(animalId, previousRoomId, roomId)) {
+            release(roomId, animal);
+            throw new ConcurrencyException();
+        }
+        if (previousRoomId != null) {
+            release(previousRoomId, animal);
+        }
+
+        animal.setRoomId(roomId);
+        animal.setVersion(animal.getVersion() == null ? null : animal.getVersion() + 1);
+        placementMetrics.attempts(1);
+        log.debug("Animal [{}] placed atomically in room [{}]", animalId, roomId);
+        return animalMapper.toDto(animal);
+    }
+
+    /**
+     * Propagates the current state of a room, just read from or written to Mongo, to the index and the cache.
+     */
+    private void roomChanged(Room room) {
+        roomCapacityIndex.update(room);
+        roomCache.put(room);
+    }
+
+    private Optional<Room> release(String roomId, Animal animal) {
+        var released = roomRepository.releaseSpace(roomId, animal.getId(), animal.getVolume());
+        released.ifPresent(this::roomChanged);
+        return released;
+    }
+
+    /**
+     * Finds out why a conditional claim was rejected, only called on the failure path.
+     */
+    private ZooBusinessException rejectionOf(String roomId, Animal animal) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new RoomNotFoundException(roomId));
+        roomChanged(room);
+        checkRules(room, animal);
+        return new ConcurrencyException();
+    }
+
+    private AnimalDto removeAtomically(Animal animal) {
+        var roomId = animal.getRoomId();
+        if (!animalRepository.assignRoom(animal.getId(), roomId, null)) {
+            throw new ConcurrencyException();
+        }
+        if (release(roomId, animal).isEmpty()) {
+            log.warn("Room [{}] didn't hold animal [{}] while removing it", roomId, animal.getId());
+        }
+
+        animal.setRoomId(null);
+        animal.setVersion(animal.getVersion() == null ? null : animal.getVersion() + 1);
+        log.debug("Animal [{}] removed atomically from room [{}]", animal.getId(), roomId);
+        return animalMapper.toDto(animal);
+    }
+
     @Override
     @Transactional
     public AnimalDto remove(String animalId) {
@@ -97,6 +221,9 @@ public class PlacementServiceImpl implements PlacementService {
         if (animal.getRoomId() == null) {
             throw new AnimalNotPlacedException(animalId);
         }
+        if (placementProperties.mode() == PlacementMode.ATOMIC) {
+            return removeAtomically(animal);
+        }
         Room room = roomRepository.findById(animal.getRoomId())
                 .orElseThrow(() -> new RoomNotFoundException(animal.getRoomId()));
         adjustRoom(room, animal);
@@ -106,26 +233,210 @@ public class PlacementServiceImpl implements PlacementService {
         return animalMapper.toDto(animal);
     }
 
+    @Override
+    public AnimalDto move(String animalId, String roomId) {
+        Animal animal = animalRepository.findById(animalId)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        if (animal.getRoomId() == null) {
+            throw new AnimalNotPlacedException(animalId);
+        }
+        var sourceRoomId = animal.getRoomId();
+        var moved = measured(roomId, () -> placeAtomically(animal, roomId));
+        log.debug("Animal [{}] moved from room [{}] to room [{}]", animalId, sourceRoomId, roomId);
+        return moved;
+    }
+
+    @Override
+    public BatchPlacementResultDto placeAll(List<BatchPlacementDto.Item> items) {
+        var animals = animalRepository.findAllById(items.stream().map(BatchPlacementDto.Item::animalId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Animal::getId, Function.identity()));
+        var rooms = roomRepository.findAllById(items.stream().map(BatchPlacementDto.Item::roomId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        Map<Integer, ZooBusinessException> failures = new HashMap<>();
+        Map<String, List<Animal>> acceptedByRoom = new LinkedHashMap<>();
+        List<Integer> moves = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            var animal = animals.get(item.animalId());
+            var room = rooms.get(item.roomId());
+            if (!seen.add(item.animalId())) {
+                failures.put(i, new DuplicateBatchItemException(item.animalId()));
+            } else if (animal == null) {
+                failures.put(i, new AnimalNotFoundException(item.animalId()));
+            } else if (room == null) {
+                failures.put(i, new RoomNotFoundException(item.roomId()));
+            } else if (animal.getRoomId() != null && !item.roomId().equals(animal.getRoomId())) {
+                moves.add(i);
+            } else if (animal.getRoomId() == null) {
+                try {
+                    checkRules(room, animal);
+                    reserve(room, animal);
+                    acceptedByRoom.computeIfAbsent(room.getId(), k -> new ArrayList<>()).add(animal);
+                } catch (ZooBusinessException e) {
+                    failures.put(i, e);
+                }
+            }
+        }
+
+        var claims = acceptedByRoom.entrySet().stream()
+                .map(entry -> {
+                    var room = rooms.get(entry.getKey());
+                    var placed = entry.getValue();
+                    return new SpaceClaim(room.getId(), room.getVersion(), room.getAllowedCategory(),
+                            placed.stream().mapToDouble(Animal::getVolume).sum(),
+                            placed.stream().map(Animal::getId).toList());
+                })
+                .toList();
+        var claimedRooms = roomRepository.claimSpaces(claims);
+        claimedRooms.forEach(roomId -> {
+            var room = rooms.get(roomId);
+            room.setVersion(room.getVersion() == null ? null : room.getVersion() + 1);
+            roomCapacityIndex.update(room);
+            // the in-memory room has the new volume but not the new animal ids
+            roomCache.evict(roomId);
+        });
+
+        Map<String, String> roomsByAnimal = new HashMap<>();
+        acceptedByRoom.forEach((roomId, placed) -> {
+            if (claimedRooms.contains(roomId)) {
+                placed.forEach(animal -> roomsByAnimal.put(animal.getId(), roomId));
+            }
+        });
+        var assignedAnimals = animalRepository.assignRooms(roomsByAnimal);
+        roomsByAnimal.forEach((animalId, roomId) -> {
+            if (!assignedAnimals.contains(animalId)) {
+                release(roomId, animals.get(animalId));
+            }
+        });
+
+        for (int i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            if (failures.containsKey(i) || !acceptedByRoom.containsKey(item.roomId())) {
+                continue;
+            }
+            if (animals.get(item.animalId()).getRoomId() == null && !assignedAnimals.contains(item.animalId())) {
+                failures.put(i, new ConcurrencyException());
+            }
+        }
+        for (var i : moves) {
+            var item = items.get(i);
+            try {
+                place(item.animalId(), item.roomId());
+            } catch (ZooBusinessException e) {
+                failures.put(i, e);
+            }
+        }
+
+        List<BatchPlacementResultDto.ItemResult> results = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            var failure = failures.get(i);
+            results.add(new BatchPlacementResultDto.ItemResult(item.animalId(), item.roomId(), failure == null,
+                    failure == null ? null : failure.getErrorCode(),
+                    failure == null ? null : failure.getMessage()));
+        }
+        log.debug("Batch placement of {} items: {} rooms claimed, {} failed", items.size(), claimedRooms.size(), failures.size());
+        return new BatchPlacementResultDto(items.size() - failures.size(), failures.size(), results);
+    }
+
+    /**
+     * Applies a validated placement on the in-memory room only, so the next item of the batch is checked against it.
+     */
+    private void reserve(Room room, Animal animal) {
+        room.setUsedVolume(room.getUsedVolume() + animal.getVolume());
+        if (room.getAllowedCategory() == null) {
+            room.setAllowedCategory(animal.getCategory());
+        }
+    }
+
+    @Override
+    public AnimalDto autoPlace(String animalId) {
+        Animal animal = animalRepository.findById(animalId)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        if (animal.getRoomId() != null) {
+            return animalMapper.toDto(animal);
+        }
+
+        var candidates = roomCapacityIndex.candidates(animal.getCategory(), animal.getVolume(),
+                placementProperties.index().candidates());
+        for (var roomId : candidates) {
+            try {
+                return self.place(animalId, roomId);
+            } catch (RoomOutOfSpaceException | CategoryMismatchException e) {
+                log.debug("Room [{}] no longer fits animal [{}], trying the next candidate", roomId, animalId);
+                roomRepository.findById(roomId).ifPresent(this::roomChanged);
+            } catch (RoomNotFoundException e) {
+                roomCapacityIndex.remove(roomId);
+                roomCache.evict(roomId);
+            }
+        }
+        throw new NoRoomAvailableException(animalId);
+    }
+
+    @Override
+    public PlacementCommandDto submitPlace(String animalId, String roomId) {
+        if (roomId == null) {
+            // queued on the best-fitting room, so it doesn't race with other placements there; only
+            // automatic placements without any candidate share one mailbox
+            return placementCommandQueue.submit(CommandType.PLACE, autoPlacementMailbox(animalId), animalId, null,
+                    () -> self.autoPlace(animalId));
+        }
+        return placementCommandQueue.submit(CommandType.PLACE, roomId, animalId, roomId,
+                () -> self.place(animalId, roomId));
+    }
+
+    private String autoPlacementMailbox(String animalId) {
+        Animal animal = animalRepository.findById(animalId)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        if (animal.getRoomId() != null) {
+            return animal.getRoomId();
+        }
+        return roomCapacityIndex.candidates(animal.getCategory(), animal.getVolume(), 1).stream()
+                .findFirst()
+                .orElse(AUTO_PLACEMENT_MAILBOX);
+    }
+
+    @Override
+    public PlacementCommandDto submitRemove(String animalId) {
+        Animal animal = animalRepository.findById(animalId)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        if (animal.getRoomId() == null) {
+            throw new AnimalNotPlacedException(animalId);
+        }
+        return placementCommandQueue.submit(CommandType.REMOVE, animal.getRoomId(), animalId, animal.getRoomId(),
+                () -> self.remove(animalId));
+    }
+
+    @Override
+    public PlacementCommandDto getCommand(String commandId) {
+        return placementCommandQueue.get(commandId);
+    }
+
+    @Override
+    public CompletableFuture<PlacementCommandDto> awaitCommand(String commandId, Duration timeout) {
+        return placementCommandQueue.await(commandId, timeout);
+    }
+
     private void removeAnimalRoom(Animal animal) {
         animal.setRoomId(null);
         animalRepository.save(animal);
     }
 
     private void adjustRoom(Room room, Animal animal) {
-        room.getAnimalIds().remove(animal.getId());
-        room.setUsedVolume(Math.max(0, room.getUsedVolume() - animal.getVolume()));
-
-        if (room.getAnimalIds().isEmpty()) {
-            room.setAllowedCategory(null);
-        }
-        roomRepository.save(room);
+        PlacementRules.vacate(room, animal, roomProperties.embedded());
+        roomChanged(roomRepository.save(room));
     }
 
-    private void sleepBackoff(int attempt) {
+    private Duration sleepBackoff(int attempt) {
+        long started = System.nanoTime();
         try {
             Thread.sleep(100L * attempt);
         } catch (InterruptedException ignored) {
             Thread.currentThread().interrupt();
         }
+        return Duration.ofNanos(System.nanoTime() - started);
     }
 }
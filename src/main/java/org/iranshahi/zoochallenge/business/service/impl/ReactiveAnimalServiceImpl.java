@@ -0,0 +1,93 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.service.ReactiveAnimalManagementService;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.repository.ReactiveAnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.ReactiveFavouriteRoomCounterRepository;
+import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Reactive counterpart of {@link AnimalServiceImpl}, with the same write paths on the non-blocking driver.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAnimalServiceImpl implements ReactiveAnimalManagementService {
+
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    private final ReactiveAnimalRepository animalRepository;
+    private final ReactiveFavouriteRoomCounterRepository favouriteRoomCounterRepository;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final AnimalMapper animalMapper;
+
+    @Override
+    public Mono<AnimalDto> create(AnimalDto animalDto) {
+        return animalRepository.save(animalMapper.toEntity(animalDto))
+                .map(animalMapper::toDto);
+    }
+
+    @Override
+    public Mono<AnimalDto> get(String animalId) {
+        return animalRepository.findById(animalId)
+                .switchIfEmpty(Mono.error(() -> new AnimalNotFoundException(animalId)))
+                .map(animalMapper::toDto);
+    }
+
+    @Override
+    public Mono<AnimalDto> update(String animalId, AnimalDto animalDto) {
+        return animalRepository.updateDetails(animalId, animalDto.title(), animalDto.located())
+                .switchIfEmpty(Mono.error(() -> new AnimalNotFoundException(animalId)))
+                .map(animalMapper::toDto);
+    }
+
+    @Override
+    public Mono<Void> delete(String animalId) {
+        return animalRepository.deleteReturningFavourites(animalId)
+                .flatMap(animal -> favouriteRoomCounterRepository.decrement(animal.getFavouriteRoomIds()));
+    }
+
+    @Override
+    public Mono<Page<AnimalDto>> getAnimalsInRoom(String roomId, Pageable pageable) {
+        return animalRepository.findByRoomId(roomId, pageable)
+                .map(animalMapper::toDto)
+                .collectList()
+                .zipWith(animalRepository.countByRoomId(roomId))
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    @Override
+    public Flux<AnimalDto> export(Category category, String roomId, Instant updatedSince) {
+        var criteria = updatedSince == null ? new Criteria() : where("updated").gte(updatedSince);
+        if (category != null) {
+            criteria.and("category").is(category);
+        }
+        if (roomId != null) {
+            criteria.and("roomId").is(roomId);
+        }
+        var query = new Query(criteria).with(Sort.by("_id")).cursorBatchSize(EXPORT_BATCH_SIZE);
+        return reactiveMongoTemplate.find(query, Animal.class).map(animalMapper::toDto);
+    }
+}
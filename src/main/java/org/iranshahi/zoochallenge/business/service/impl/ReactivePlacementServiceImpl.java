@@ -0,0 +1,180 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.service.ReactivePlacementService;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.ReactiveAnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.ReactiveRoomRepository;
+import org.iranshahi.zoochallenge.exceptions.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Reactive counterpart of the optimistic mode of {@link PlacementServiceImpl}.
+ *
+ * <p>
+ * Rooms and animals are read, checked with {@link PlacementRules} and saved with their version; a conflict
+ * re-subscribes the whole read-check-save after a linear backoff, scheduled on a timer instead of sleeping
+ * on the request thread. {@code zoo.placement.mode} isn't applied, there are no atomic claims here.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePlacementServiceImpl implements ReactivePlacementService {
+
+    private static final int MAX_RETRIES = 4;
+    private static final Duration BACKOFF = Duration.ofMillis(100);
+
+    private final ReactiveRoomRepository roomRepository;
+    private final ReactiveAnimalRepository animalRepository;
+    private final AnimalMapper animalMapper;
+    private final PlacementProperties placementProperties;
+    private final RoomCapacityIndex roomCapacityIndex;
+    private final RoomProperties roomProperties;
+    private final PlacementMetrics placementMetrics;
+
+    @Override
+    public Mono<AnimalDto> place(String animalId, String roomId) {
+        return Mono.defer(() -> {
+            var sample = placementMetrics.start();
+            var attempts = new AtomicInteger();
+            return Mono.defer(() -> {
+                        attempts.incrementAndGet();
+                        return placeOnce(animalId, roomId);
+                    })
+                    .retryWhen(onConflict(roomId))
+                    .doOnSuccess(placed -> {
+                        placementMetrics.attempts(attempts.get());
+                        placementMetrics.placed(sample);
+                    })
+                    .doOnError(ZooBusinessException.class, e -> placementMetrics.rejected(sample, roomId, e));
+        });
+    }
+
+    private Mono<AnimalDto> placeOnce(String animalId, String roomId) {
+        return findAnimal(animalId)
+                .zipWith(findRoom(roomId))
+                .flatMap(found -> {
+                    Animal animal = found.getT1();
+                    Room room = found.getT2();
+                    if (roomId.equals(animal.getRoomId())) {
+                        return Mono.just(animalMapper.toDto(animal));
+                    }
+                    PlacementRules.check(room, animal);
+                    PlacementRules.occupy(room, animal, roomProperties.embedded());
+                    return roomRepository.save(room)
+                            .doOnNext(roomCapacityIndex::update)
+                            .then(Mono.defer(() -> {
+                                animal.setRoomId(roomId);
+                                return animalRepository.save(animal);
+                            }))
+                            .map(animalMapper::toDto);
+                });
+    }
+
+    @Override
+    public Mono<AnimalDto> autoPlace(String animalId) {
+        return findAnimal(animalId).flatMap(animal -> {
+            if (animal.getRoomId() != null) {
+                return Mono.just(animalMapper.toDto(animal));
+            }
+            var candidates = roomCapacityIndex.candidates(animal.getCategory(), animal.getVolume(),
+                    placementProperties.index().candidates());
+            return Flux.fromIterable(candidates)
+                    .concatMap(roomId -> place(animalId, roomId)
+                            .onErrorResume(e -> e instanceof RoomOutOfSpaceException || e instanceof CategoryMismatchException,
+                                    e -> {
+                                        log.debug("Room [{}] no longer fits animal [{}], trying the next candidate", roomId, animalId);
+                                        return roomRepository.findById(roomId)
+                                                .doOnNext(roomCapacityIndex::update)
+                                                .then(Mono.<AnimalDto>empty());
+                                    })
+                            .onErrorResume(RoomNotFoundException.class, e -> {
+                                roomCapacityIndex.remove(roomId);
+                                return Mono.empty();
+                            }), 1)
+                    .next()
+                    .switchIfEmpty(Mono.error(() -> new NoRoomAvailableException(animalId)));
+        });
+    }
+
+    @Override
+    public Mono<AnimalDto> remove(String animalId) {
+        return Mono.defer(() -> removeOnce(animalId))
+                .retryWhen(onConflict(null));
+    }
+
+    private Mono<AnimalDto> removeOnce(String animalId) {
+        return findAnimal(animalId).flatMap(animal -> {
+            if (animal.getRoomId() == null) {
+                return Mono.error(new AnimalNotPlacedException(animalId));
+            }
+            return findRoom(animal.getRoomId())
+                    .flatMap(room -> {
+                        PlacementRules.vacate(room, animal, roomProperties.embedded());
+                        return roomRepository.save(room);
+                    })
+                    .doOnNext(roomCapacityIndex::update)
+                    .then(Mono.defer(() -> {
+                        animal.setRoomId(null);
+                        return animalRepository.save(animal);
+                    }))
+                    .map(animalMapper::toDto);
+        });
+    }
+
+    /**
+     * Retries optimistic lock conflicts after {@code attempt * 100ms}, signalling {@link ConcurrencyException}
+     * after {@value #MAX_RETRIES} attempts; other errors are passed on.
+     *
+     * @param roomId the contended room for the contention metrics, {@code null} if not known
+     */
+    private Retry onConflict(String roomId) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            if (!(signal.failure() instanceof OptimisticLockingFailureException)) {
+                return Mono.<Long>error(signal.failure());
+            }
+            long attempt = signal.totalRetries() + 1;
+            log.warn("Optimistic lock conflict in room [{}], retry {}/{}", roomId, attempt, MAX_RETRIES);
+            if (attempt >= MAX_RETRIES) {
+                return Mono.<Long>error(new ConcurrencyException());
+            }
+            var backoff = BACKOFF.multipliedBy(attempt);
+            if (roomId != null) {
+                placementMetrics.retried(roomId, backoff);
+            }
+            return Mono.delay(backoff);
+        }));
+    }
+
+    private Mono<Animal> findAnimal(String animalId) {
+        return orError(animalRepository.findById(animalId), () -> new AnimalNotFoundException(animalId));
+    }
+
+    private Mono<Room> findRoom(String roomId) {
+        return orError(roomRepository.findById(roomId), () -> new RoomNotFoundException(roomId));
+    }
+
+    private static <T> Mono<T> orError(Mono<T> found, Supplier<ZooBusinessException> notFound) {
+        return found.switchIfEmpty(Mono.error(notFound));
+    }
+}
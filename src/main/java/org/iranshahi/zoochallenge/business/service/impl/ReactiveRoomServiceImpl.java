@@ -0,0 +1,96 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.FavouriteRoomDto;
+import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.business.mapper.RoomMapper;
+import org.iranshahi.zoochallenge.business.service.ReactiveRoomManagementService;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.ReactiveFavouriteRoomCounterRepository;
+import org.iranshahi.zoochallenge.data.repository.ReactiveRoomRepository;
+import org.iranshahi.zoochallenge.exceptions.DuplicateRoomTitleException;
+import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Reactive counterpart of {@link RoomServiceImpl}. Rooms are read from Mongo on every request, the
+ * in-process {@link RoomCache} loads blocking and isn't used here; the capacity index is kept up to date.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveRoomServiceImpl implements ReactiveRoomManagementService {
+
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    private final ReactiveRoomRepository roomRepository;
+    private final ReactiveFavouriteRoomCounterRepository favouriteRoomCounterRepository;
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final RoomMapper roomMapper;
+    private final RoomCapacityIndex roomCapacityIndex;
+
+    @Override
+    public Mono<RoomDto> create(RoomDto roomDto) {
+        return roomRepository.insert(roomMapper.toEntity(roomDto))
+                .onErrorMap(ex -> ex instanceof DuplicateKeyException duplicate
+                                && RoomServiceImpl.violatesTitleIndex(duplicate),
+                        ex -> new DuplicateRoomTitleException(roomDto.title()))
+                .doOnNext(roomCapacityIndex::update)
+                .map(roomMapper::toDto);
+    }
+
+    @Override
+    public Mono<RoomDto> get(String roomId) {
+        return roomRepository.findById(roomId)
+                .switchIfEmpty(Mono.error(() -> new RoomNotFoundException(roomId)))
+                .map(roomMapper::toDto);
+    }
+
+    @Override
+    public Mono<RoomDto> update(String roomId, RoomDto roomDto) {
+        return roomRepository.updateTitle(roomId, roomDto.title())
+                .onErrorMap(DuplicateKeyException.class, ex -> new DuplicateRoomTitleException(roomDto.title()))
+                .switchIfEmpty(Mono.error(() -> new RoomNotFoundException(roomId)))
+                .flatMap(updated -> favouriteRoomCounterRepository.updateTitle(roomId, updated.getTitle())
+                        .thenReturn(roomMapper.toDto(updated)));
+    }
+
+    @Override
+    public Mono<Void> delete(String roomId) {
+        return roomRepository.deleteById(roomId)
+                .doOnSuccess(deleted -> roomCapacityIndex.remove(roomId))
+                .then(favouriteRoomCounterRepository.deleteById(roomId));
+    }
+
+    @Override
+    public Flux<FavouriteRoomDto> favourites() {
+        return favouriteRoomCounterRepository.findByCountGreaterThanOrderByCountDesc(0)
+                .map(counter -> new FavouriteRoomDto(counter.getRoomId(), counter.getTitle(), counter.getCount()));
+    }
+
+    @Override
+    public Flux<RoomDto> export(Category category, Instant updatedSince) {
+        var criteria = updatedSince == null ? new Criteria() : where("updated").gte(updatedSince);
+        if (category != null) {
+            criteria.and("allowedCategory").is(category);
+        }
+        var query = new Query(criteria).with(Sort.by("_id")).cursorBatchSize(EXPORT_BATCH_SIZE);
+        return reactiveMongoTemplate.find(query, Room.class).map(roomMapper::toDto);
+    }
+}
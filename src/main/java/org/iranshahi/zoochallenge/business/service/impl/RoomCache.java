@@ -0,0 +1,127 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded read-through cache of {@link Room} lookups.
+ *
+ * <h3>Consistency</h3>
+ * <ul>
+ *   <li>Only used for reads which are shown to clients, placement rules are always checked against Mongo</li>
+ *   <li>Room writes of this node put the written room, an entry is only replaced by a newer {@code version}</li>
+ *   <li>A load which was running when its room got evicted isn't cached, it may have read the state before the write</li>
+ *   <li>Writes of other nodes are picked up after {@code zoo.rooms.cache.ttl} at the latest</li>
+ * </ul>
+ *
+ * <p>
+ * Hits, misses and evictions are published as {@code cache.*} meters tagged with {@code cache=rooms}.
+ * Title uniqueness isn't cached, it is enforced by the unique title index of rooms.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Component
+public class RoomCache {
+
+    /**
+     * Evictions are counted per stripe of room ids, so the count of a room is bounded memory and only rarely shared
+     * with another room; a shared stripe just skips caching one more load.
+     */
+    private static final int GENERATION_STRIPES = 64;
+
+    private final RoomRepository roomRepository;
+    private final Cache<String, Room> rooms;
+    private final SingleFlight<String, Optional<Room>> loads;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public RoomCache(RoomRepository roomRepository, RoomProperties roomProperties, MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+        var settings = roomProperties.cache();
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(settings.maxSize())
+                .expireAfterWrite(settings.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "rooms");
+        this.loads = new SingleFlight<>("room", meterRegistry);
+    }
+
+    /**
+     * @param roomId the ID of room
+     * @return the room, loaded from Mongo on a miss; concurrent misses of the same room share one query
+     */
+    public Optional<Room> find(String roomId) {
+        var cached = rooms.getIfPresent(roomId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return loads.load(roomId, id -> {
+            var stripe = stripeOf(id);
+            var generation = generations.get(stripe);
+            var loaded = roomRepository.findById(id);
+            if (generations.get(stripe) == generation) {
+                loaded.ifPresent(this::put);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * @param roomId the ID of room
+     * @return the cached room, without loading it on a miss
+     */
+    public Optional<Room> peek(String roomId) {
+        return Optional.ofNullable(rooms.getIfPresent(roomId));
+    }
+
+    /**
+     * Caches the state of a room which was just read or written, unless a newer version is cached already.
+     *
+     * @param room the room, may be {@code null}
+     */
+    public void put(Room room) {
+        if (room == null || room.getId() == null) {
+            return;
+        }
+        rooms.asMap().merge(room.getId(), room, (cached, written) -> versionOf(cached) > versionOf(written) ? cached : written);
+    }
+
+    /**
+     * Drops a deleted room, or one whose current state isn't known, e.g. after a partial update in memory.
+     *
+     * @param roomId the ID of room
+     */
+    public void evict(String roomId) {
+        generations.incrementAndGet(stripeOf(roomId));
+        rooms.invalidate(roomId);
+    }
+
+    /**
+     * Drops all rooms, e.g. after the rooms collection was replaced as a whole.
+     */
+    public void evictAll() {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        rooms.invalidateAll();
+    }
+
+    private static int stripeOf(String roomId) {
+        return Math.floorMod(roomId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private static long versionOf(Room room) {
+        return room.getVersion() == null ? -1 : room.getVersion();
+    }
+}
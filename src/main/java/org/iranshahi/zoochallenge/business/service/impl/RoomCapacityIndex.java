@@ -0,0 +1,151 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory index of the free capacity of rooms, used to pick the best-fitting room for an animal.
+ *
+ * <p>
+ * Rooms are kept per {@link Category}, ordered by remaining volume, plus one set for empty rooms
+ * which don't have a category yet. Picking a room is a {@code ceiling} lookup on a skip list,
+ * so it takes microseconds instead of a scan over the rooms collection.
+ * </p>
+ *
+ * <h3>Consistency</h3>
+ * <ul>
+ *   <li>The index is only a hint, the rules are still checked when the animal is placed</li>
+ *   <li>Every entry carries the room {@code version}, an older state never replaces a newer one</li>
+ *   <li>It is built on startup, kept in sync by room and placement writes of this node, and rebuilt
+ *   at most once per {@code zoo.placement.index.rebuild-interval} when it has no candidate</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Component
+public class RoomCapacityIndex {
+
+    private static final double EPSILON = 1e-9;
+    private static final Comparator<Slot> BY_FREE_VOLUME =
+            Comparator.comparingDouble(Slot::free).thenComparing(Slot::roomId);
+
+    private final RoomRepository roomRepository;
+    private final Duration rebuildInterval;
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<Category, NavigableSet<Slot>> byCategory = new EnumMap<>(Category.class);
+    private final NavigableSet<Slot> uncategorized = new ConcurrentSkipListSet<>(BY_FREE_VOLUME);
+    private final AtomicReference<Instant> lastRebuild = new AtomicReference<>(Instant.EPOCH);
+
+    public RoomCapacityIndex(RoomRepository roomRepository, PlacementProperties placementProperties) {
+        this.roomRepository = roomRepository;
+        this.rebuildInterval = placementProperties.index().rebuildInterval();
+        for (var category : Category.values()) {
+            byCategory.put(category, new ConcurrentSkipListSet<>(BY_FREE_VOLUME));
+        }
+    }
+
+    /**
+     * Loads the capacity of all rooms, without their animal ids.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lastRebuild.set(Instant.now());
+        try (var rooms = roomRepository.streamCapacities()) {
+            rooms.forEach(this::update);
+        }
+        log.info("Room capacity index built with {} rooms", slots.size());
+    }
+
+    /**
+     * Adds or refreshes a room, ignored if the index already holds a newer version of it.
+     *
+     * @param room the current state of the room, may be {@code null}
+     */
+    public void update(Room room) {
+        if (room == null || room.getId() == null) {
+            return;
+        }
+        var slot = new Slot(room.getId(), room.getCapacity() - room.getUsedVolume(),
+                room.getAllowedCategory(), room.getVersion() == null ? -1 : room.getVersion());
+        slots.compute(room.getId(), (roomId, previous) -> {
+            if (previous != null && previous.version() > slot.version()) {
+                return previous;
+            }
+            if (previous != null) {
+                setOf(previous.category()).remove(previous);
+            }
+            setOf(slot.category()).add(slot);
+            return slot;
+        });
+    }
+
+    /**
+     * @param roomId the ID of a deleted room
+     */
+    public void remove(String roomId) {
+        slots.computeIfPresent(roomId, (key, previous) -> {
+            setOf(previous.category()).remove(previous);
+            return null;
+        });
+    }
+
+    /**
+     * Best-fitting rooms for an animal: rooms of its category with the least remaining volume that still
+     * fits first, then empty rooms the same way.
+     *
+     * @param category the category of animal
+     * @param volume   the volume of animal
+     * @param limit    maximum number of rooms to return
+     * @return IDs of candidate rooms, best fit first
+     */
+    public List<String> candidates(Category category, double volume, int limit) {
+        var candidates = collect(category, volume, limit);
+        if (candidates.isEmpty() && rebuildAllowed()) {
+            rebuild();
+            candidates = collect(category, volume, limit);
+        }
+        return candidates;
+    }
+
+    private List<String> collect(Category category, double volume, int limit) {
+        var probe = new Slot("", volume - EPSILON, null, 0);
+        List<String> candidates = new ArrayList<>(limit);
+        for (var set : List.of(byCategory.get(category), uncategorized)) {
+            for (var slot : set.tailSet(probe, true)) {
+                if (candidates.size() == limit) {
+                    return candidates;
+                }
+                candidates.add(slot.roomId());
+            }
+        }
+        return candidates;
+    }
+
+    private boolean rebuildAllowed() {
+        var last = lastRebuild.get();
+        return last.plus(rebuildInterval).isBefore(Instant.now()) && lastRebuild.compareAndSet(last, Instant.now());
+    }
+
+    private NavigableSet<Slot> setOf(Category category) {
+        return category == null ? uncategorized : byCategory.get(category);
+    }
+
+    private record Slot(String roomId, double free, Category category, long version) {
+    }
+}
@@ -0,0 +1,60 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Corrects the {@code animalCount} of rooms from the {@code roomId} of their animals on startup, when asked to
+ * with {@code zoo.rooms.recount-animals}.
+ *
+ * <p>
+ * Rooms stored before the counter existed report no animals, so in {@code DERIVED} occupancy their animals
+ * could never release their volume and removing one would clear the allowed category of an occupied room.
+ * It is a one-off repair rather than part of every startup, since placements on other nodes of a rolling
+ * deployment keep changing the counters while the animals are counted; rooms changed meanwhile are skipped.
+ * In {@code DERIVED} occupancy the legacy {@code animalIds} of the rooms are dropped as well.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomOccupancyBackfill implements SmartLifecycle {
+
+    private final RoomRepository roomRepository;
+    private final RoomProperties roomProperties;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (roomProperties.recountAnimals()) {
+            long corrected = roomRepository.recountAnimals(!roomProperties.embedded());
+            log.info("Corrected the animal count of {} rooms", corrected);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * After a snapshot restore, which replaces the rooms and animals.
+     */
+    @Override
+    public int getPhase() {
+        return ZooSnapshotRunner.PHASE + 200;
+    }
+}
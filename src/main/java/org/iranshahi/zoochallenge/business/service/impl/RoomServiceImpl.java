@@ -1,15 +1,26 @@
 package org.iranshahi.zoochallenge.business.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.ExpandedRoomDto;
+import org.iranshahi.zoochallenge.business.dto.MultiGetResultDto;
 import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
 import org.iranshahi.zoochallenge.business.mapper.RoomMapper;
+import org.iranshahi.zoochallenge.business.service.Expansion;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
 import org.iranshahi.zoochallenge.business.service.RoomManagementService;
 import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
 import org.iranshahi.zoochallenge.data.repository.RoomRepository;
 import org.iranshahi.zoochallenge.exceptions.DuplicateRoomTitleException;
 import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  *
  * @author Reza Iranshahi
@@ -22,33 +33,54 @@ public class RoomServiceImpl implements RoomManagementService {
 
     private final RoomRepository roomRepository;
     private final RoomMapper roomMapper;
+    private final AnimalMapper animalMapper;
+    private final RoomCapacityIndex roomCapacityIndex;
+    private final RoomCache roomCache;
+    private final FavouriteRoomCounterRepository favouriteRoomCounterRepository;
 
+    private static final int MAX_EXPANDED_ANIMALS = 100;
 
 
     @Override
     public RoomDto create(RoomDto roomDto) {
-        if (roomRepository.existsByTitle(roomDto.title())) {
+        Room instance;
+        try {
+            instance = roomRepository.insert(roomMapper.toEntity(roomDto));
+        } catch (DuplicateKeyException ex) {
+            if (!violatesTitleIndex(ex)) {
+                throw ex;
+            }
             throw new DuplicateRoomTitleException(roomDto.title());
         }
-        var instance = roomMapper.toEntity(roomDto);
-        instance = roomRepository.save(instance);
+        roomCapacityIndex.update(instance);
+        roomCache.put(instance);
         return roomMapper.toDto(instance);
     }
 
+    /**
+     * @param ex a duplicate key error of a room write
+     * @return whether the unique title index was violated, rather than another unique key
+     */
+    static boolean violatesTitleIndex(DuplicateKeyException ex) {
+        return ex.getMessage() != null && ex.getMessage().contains(Room.TITLE_INDEX);
+    }
+
     @Override
     public RoomDto update(String roomId, RoomDto roomDto) throws RoomNotFoundException {
-        var existsRoom = findRoomById(roomId);
-        if (!existsRoom.getTitle().equalsIgnoreCase(roomDto.title())
-                && roomRepository.existsByTitle(roomDto.title())) {
+        Room updated;
+        try {
+            updated = roomRepository.updateTitle(roomId, roomDto.title())
+                    .orElseThrow(() -> new RoomNotFoundException(roomId));
+        } catch (DuplicateKeyException ex) {
             throw new DuplicateRoomTitleException(roomDto.title());
         }
-        existsRoom.setTitle(roomDto.title());
-        existsRoom = roomRepository.save(existsRoom);
-        return roomMapper.toDto(existsRoom);
+        roomCache.put(updated);
+        favouriteRoomCounterRepository.updateTitle(roomId, updated.getTitle());
+        return roomMapper.toDto(updated);
     }
 
     private Room findRoomById(String roomId) throws RoomNotFoundException {
-        return roomRepository.findById(roomId).orElseThrow(() -> new RoomNotFoundException(roomId));
+        return roomCache.find(roomId).orElseThrow(() -> new RoomNotFoundException(roomId));
     }
 
     @Override
@@ -57,10 +89,67 @@ public class RoomServiceImpl implements RoomManagementService {
         return roomMapper.toDto(room);
     }
 
+    @Override
+    public RoomDto get(String roomId, FieldSelection fields) throws RoomNotFoundException {
+        if (fields.isAll()) {
+            return get(roomId);
+        }
+        var room = roomCache.peek(roomId)
+                .or(() -> roomRepository.findProjectedById(roomId, fields.projection()))
+                .orElseThrow(() -> new RoomNotFoundException(roomId));
+        return roomMapper.toDto(room);
+    }
+
+    /**
+     * The room is read together with its animals, not from the cache, so the page and the occupancy agree.
+     */
+    @Override
+    public ExpandedRoomDto getExpanded(String roomId, Expansion expansion, int page, int size)
+            throws RoomNotFoundException {
+        if (!expansion.has(Expansion.ANIMALS)) {
+            return new ExpandedRoomDto(get(roomId), null);
+        }
+        int limit = Math.clamp(size, 1, MAX_EXPANDED_ANIMALS);
+        int pageNumber = Math.max(page, 0);
+        var found = roomRepository.findWithAnimalsById(roomId, (long) pageNumber * limit, limit + 1)
+                .orElseThrow(() -> new RoomNotFoundException(roomId));
+        var animals = found.animals().stream().limit(limit).map(animalMapper::toSummaryDto).toList();
+        return new ExpandedRoomDto(roomMapper.toDto(found.room()),
+                new ExpandedRoomDto.Animals(animals, pageNumber, limit, found.animals().size() > limit));
+    }
+
+    @Override
+    public MultiGetResultDto<RoomDto> getAll(List<String> roomIds) {
+        return MultiGet.resolve(roomIds, this::findAllCached, Room::getId, roomMapper::toDto);
+    }
+
+    private List<Room> findAllCached(Collection<String> roomIds) {
+        var rooms = new ArrayList<Room>(roomIds.size());
+        var misses = new ArrayList<String>();
+        for (var roomId : roomIds) {
+            roomCache.peek(roomId).ifPresentOrElse(rooms::add, () -> misses.add(roomId));
+        }
+        if (!misses.isEmpty()) {
+            roomRepository.findAllById(misses).forEach(room -> {
+                roomCache.put(room);
+                rooms.add(room);
+            });
+        }
+        return rooms;
+    }
+
+    @Override
+    public Long getVersion(String roomId) throws RoomNotFoundException {
+        return findRoomById(roomId).getVersion();
+    }
+
     @Override
     public void delete(String roomId) throws RoomNotFoundException {
         try {
             roomRepository.deleteById(roomId);
+            roomCapacityIndex.remove(roomId);
+            roomCache.evict(roomId);
+            favouriteRoomCounterRepository.deleteById(roomId);
         } catch (Exception ex) {
             throw new RoomNotFoundException(roomId);
         }
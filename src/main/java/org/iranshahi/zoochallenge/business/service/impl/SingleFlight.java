@@ -0,0 +1,89 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key into one: the first caller runs the load, callers arriving
+ * while it is in flight wait for and share its result or exception.
+ *
+ * <p>
+ * Nothing is kept once the load completes, so a result is never older than the load it came from; a caller
+ * arriving after completion starts a new load. Shared results must not be modified by the callers.
+ * </p>
+ *
+ * <h3>Metrics</h3>
+ * <ul>
+ *   <li>{@code zoo.reads.coalescing} tagged {@code entity} and {@code outcome=loaded|coalesced} — lookups
+ *   which ran the load, and lookups which joined a load in flight</li>
+ * </ul>
+ *
+ * @param <K> the key of the load
+ * @param <V> the loaded value
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loaded;
+    private final Counter coalesced;
+
+    public SingleFlight(String entity, MeterRegistry meterRegistry) {
+        this.loaded = counter(entity, "loaded", meterRegistry);
+        this.coalesced = counter(entity, "coalesced", meterRegistry);
+    }
+
+    private static Counter counter(String entity, String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("zoo.reads.coalescing")
+                .description("Lookups which loaded from Mongo or joined a load in flight")
+                .tag("entity", entity)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key    the key to load
+     * @param loader loads the value, called at most once at a time per key
+     * @return the value loaded by this or a concurrent caller
+     */
+    public V load(K key, Function<K, V> loader) {
+        var own = new CompletableFuture<V>();
+        var running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.increment();
+            return join(running);
+        }
+        loaded.increment();
+        try {
+            var value = loader.apply(key);
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            own.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.mapper.RoomMapper;
+import org.iranshahi.zoochallenge.business.service.ZooExportService;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.function.Function;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * NDJSON export straight from a Mongo cursor.
+ *
+ * <h3>Performance Notes</h3>
+ * <ul>
+ *   <li>Documents are read with {@link MongoTemplate#stream} in batches of {@value #BATCH_SIZE}, mapped and
+ *   written one by one; nothing is collected, so memory stays constant whatever the size of the export</li>
+ *   <li>Output is buffered, the buffer is only flushed when full and once at the end</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Service
+public class ZooExportServiceImpl implements ZooExportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MongoTemplate mongoTemplate;
+    private final AnimalMapper animalMapper;
+    private final RoomMapper roomMapper;
+    private final ObjectWriter writer;
+
+    public ZooExportServiceImpl(MongoTemplate mongoTemplate, AnimalMapper animalMapper, RoomMapper roomMapper,
+                                ObjectMapper objectMapper) {
+        this.mongoTemplate = mongoTemplate;
+        this.animalMapper = animalMapper;
+        this.roomMapper = roomMapper;
+        this.writer = objectMapper.writer();
+    }
+
+    @Override
+    public long exportAnimals(Category category, String roomId, Instant updatedSince, OutputStream out) throws IOException {
+        var criteria = updatedSince(updatedSince);
+        if (category != null) {
+            criteria.and("category").is(category);
+        }
+        if (roomId != null) {
+            criteria.and("roomId").is(roomId);
+        }
+        return export(new Query(criteria), Animal.class, animalMapper::toDto, out);
+    }
+
+    @Override
+    public long exportRooms(Category category, Instant updatedSince, OutputStream out) throws IOException {
+        var criteria = updatedSince(updatedSince);
+        if (category != null) {
+            criteria.and("allowedCategory").is(category);
+        }
+        return export(new Query(criteria), Room.class, roomMapper::toDto, out);
+    }
+
+    private static Criteria updatedSince(Instant updatedSince) {
+        return updatedSince == null ? new Criteria() : where("updated").gte(updatedSince);
+    }
+
+    private <T> long export(Query query, Class<T> type, Function<T, ?> toDto, OutputStream out) throws IOException {
+        query.with(Sort.by("_id")).cursorBatchSize(BATCH_SIZE);
+        var buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        long count = 0;
+        try (var documents = mongoTemplate.stream(query, type)) {
+            var iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                buffered.write(writer.writeValueAsBytes(toDto.apply(iterator.next())));
+                buffered.write('\n');
+                count++;
+            }
+        }
+        buffered.flush();
+        log.info("Exported {} {} documents", count, type.getSimpleName());
+        return count;
+    }
+}
@@ -0,0 +1,72 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.service.ZooSnapshotService;
+import org.iranshahi.zoochallenge.configs.SnapshotProperties;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Restores and then takes the snapshots requested by {@code zoo.snapshot.restore} and {@code zoo.snapshot.create}.
+ *
+ * <p>
+ * Runs in a lifecycle phase before the web server starts, so the collections are dropped and reloaded before
+ * any request is accepted; a failed restore fails the startup.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ZooSnapshotRunner implements SmartLifecycle {
+
+    /**
+     * Both the servlet and the reactive web server start {@value} phases before their graceful shutdown phase.
+     */
+    private static final int WEB_SERVER_OFFSET = 1024;
+
+    /**
+     * Before the web server starts, and before the indexes are created and the counters are backfilled,
+     * which then see the restored data.
+     */
+    public static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - WEB_SERVER_OFFSET - 400;
+
+    private final ZooSnapshotService zooSnapshotService;
+    private final SnapshotProperties snapshotProperties;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        try {
+            if (snapshotProperties.restore() != null) {
+                zooSnapshotService.restore(snapshotProperties.restore());
+            }
+            if (snapshotProperties.create() != null) {
+                zooSnapshotService.create(snapshotProperties.create());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,332 @@
+package org.iranshahi.zoochallenge.business.service.impl;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.RawBsonDocument;
+import org.iranshahi.zoochallenge.business.dto.SnapshotReportDto;
+import org.iranshahi.zoochallenge.business.service.ZooSnapshotService;
+import org.iranshahi.zoochallenge.configs.MongoIndexInitializer;
+import org.iranshahi.zoochallenge.configs.SnapshotProperties;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Binary snapshots of the zoo collections, written and read as raw BSON without mapping to entities.
+ *
+ * <h3>File Format</h3>
+ * <p>
+ * All integers are 32-bit little-endian, like the lengths inside BSON.
+ * </p>
+ * <ol>
+ *   <li>the magic {@code ZOOSNAP1}</li>
+ *   <li>per collection: the byte {@code C}, the length of the UTF-8 collection name and the name, the
+ *   collection's documents back to back as BSON (each starts with its own length), and a {@code 0} length
+ *   ending the collection</li>
+ *   <li>the byte {@code E}</li>
+ * </ol>
+ *
+ * <h3>Restore</h3>
+ * <ul>
+ *   <li>The file is memory-mapped, in windows of at most {@value #MAX_WINDOW} bytes, and documents are sliced
+ *   out of it without decoding; ids, versions and timestamps are inserted exactly as they were dumped</li>
+ *   <li>Collections are dropped first and their indexes are built again once loaded, building an index over
+ *   a full collection is cheaper than maintaining it per insert</li>
+ *   <li>Batches of {@code zoo.snapshot.batch-size} documents are inserted by {@code zoo.snapshot.parallelism}
+ *   threads as unordered {@code insertMany}; at most twice as many batches wait in memory</li>
+ *   <li>The room capacity index is rebuilt and the room cache cleared afterwards; restoring must not overlap
+ *   with requests, {@link ZooSnapshotRunner} runs it before the web server starts</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ZooSnapshotServiceImpl implements ZooSnapshotService {
+
+    private static final byte[] MAGIC = "ZOOSNAP1".getBytes(StandardCharsets.US_ASCII);
+    private static final byte COLLECTION = 'C';
+    private static final byte END = 'E';
+    private static final int END_OF_COLLECTION = 0;
+    private static final int MIN_DOCUMENT_SIZE = 5;
+    private static final long MAX_WINDOW = 1L << 30;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final List<Class<?>> ENTITIES = List.of(Room.class, Animal.class, FavouriteRoomCounter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexInitializer mongoIndexInitializer;
+    private final RoomCapacityIndex roomCapacityIndex;
+    private final RoomCache roomCache;
+    private final SnapshotProperties snapshotProperties;
+
+    @Override
+    public SnapshotReportDto create(Path file) throws IOException {
+        long started = System.nanoTime();
+        var documents = new LinkedHashMap<String, Long>();
+        var temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var out = new BufferedOutputStream(Files.newOutputStream(temp), WRITE_BUFFER_SIZE)) {
+            out.write(MAGIC);
+            for (var entity : ENTITIES) {
+                var name = mongoTemplate.getCollectionName(entity);
+                out.write(COLLECTION);
+                writeString(out, name);
+                documents.put(name, dump(raw(name), out));
+                writeInt(out, END_OF_COLLECTION);
+            }
+            out.write(END);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        var report = new SnapshotReportDto(documents, Files.size(file), elapsedMillis(started));
+        log.info("Wrote snapshot {} of {} bytes with {} in {} ms", file, report.bytes(), documents, report.elapsedMillis());
+        return report;
+    }
+
+    /**
+     * Documents are read in natural order, a snapshot is taken of a quiet database; writes during the dump
+     * may or may not be included.
+     */
+    private static long dump(MongoCollection<RawBsonDocument> collection, OutputStream out) throws IOException {
+        long count = 0;
+        try (var cursor = collection.find().batchSize(1000).cursor()) {
+            while (cursor.hasNext()) {
+                var bytes = cursor.next().getByteBuffer().asNIO();
+                if (bytes.hasArray()) {
+                    out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                } else {
+                    var copy = new byte[bytes.remaining()];
+                    bytes.get(copy);
+                    out.write(copy);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public SnapshotReportDto restore(Path file) throws IOException {
+        long started = System.nanoTime();
+        var documents = new LinkedHashMap<String, Long>();
+        var names = ENTITIES.stream().map(mongoTemplate::getCollectionName).toList();
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ);
+             var loader = new Loader(snapshotProperties.parallelism())) {
+            var in = new MappedInput(channel);
+            if (!Arrays.equals(in.bytes(MAGIC.length), MAGIC)) {
+                throw new IOException(file + " is not a zoo snapshot");
+            }
+            byte tag;
+            while ((tag = in.get()) == COLLECTION) {
+                var name = in.string();
+                if (!names.contains(name)) {
+                    throw new IOException("Unexpected collection " + name + " in snapshot " + file);
+                }
+                mongoTemplate.dropCollection(name);
+                var collection = raw(name);
+                long count = 0;
+                var batch = new ArrayList<RawBsonDocument>(snapshotProperties.batchSize());
+                for (int length = in.peekInt(); length != END_OF_COLLECTION; length = in.peekInt()) {
+                    if (length < MIN_DOCUMENT_SIZE) {
+                        throw new IOException("Corrupt document length " + length + " in snapshot " + file);
+                    }
+                    batch.add(new RawBsonDocument(in.bytes(length)));
+                    count++;
+                    if (batch.size() == snapshotProperties.batchSize()) {
+                        loader.insert(collection, batch);
+                        batch = new ArrayList<>(snapshotProperties.batchSize());
+                    }
+                }
+                in.bytes(Integer.BYTES);
+                if (!batch.isEmpty()) {
+                    loader.insert(collection, batch);
+                }
+                documents.put(name, count);
+            }
+            if (tag != END) {
+                throw new IOException("Corrupt snapshot " + file);
+            }
+            loader.await();
+        }
+
+        createIndexes();
+        roomCapacityIndex.rebuild();
+        roomCache.evictAll();
+
+        var report = new SnapshotReportDto(documents, Files.size(file), elapsedMillis(started));
+        log.info("Restored snapshot {} with {} in {} ms", file, documents, report.elapsedMillis());
+        return report;
+    }
+
+    private void createIndexes() {
+        var resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        for (var entity : ENTITIES) {
+            var indexOps = mongoTemplate.indexOps(entity);
+            resolver.resolveIndexFor(entity).forEach(indexOps::createIndex);
+        }
+        mongoIndexInitializer.createIndexes();
+    }
+
+    private MongoCollection<RawBsonDocument> raw(String name) {
+        return mongoTemplate.getCollection(name).withDocumentClass(RawBsonDocument.class);
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeInt(OutputStream out, int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private static long elapsedMillis(long started) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    /**
+     * Sequential reads over a file mapped window by window, so files beyond the 2 GiB limit of a single
+     * mapping can be read; a window is moved forward whenever the next read doesn't fit in it.
+     */
+    private static final class MappedInput {
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+
+        private MappedInput(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            map(0);
+        }
+
+        private byte get() throws IOException {
+            ensure(1);
+            return window.get();
+        }
+
+        private int peekInt() throws IOException {
+            ensure(Integer.BYTES);
+            return window.getInt(window.position());
+        }
+
+        private byte[] bytes(int length) throws IOException {
+            ensure(length);
+            var bytes = new byte[length];
+            window.get(bytes);
+            return bytes;
+        }
+
+        private String string() throws IOException {
+            int length = peekInt();
+            bytes(Integer.BYTES);
+            return new String(bytes(length), StandardCharsets.UTF_8);
+        }
+
+        private void ensure(int length) throws IOException {
+            if (window.remaining() >= length) {
+                return;
+            }
+            long position = windowStart + window.position();
+            if (position + length > size) {
+                throw new IOException("Snapshot ends unexpectedly at byte " + position);
+            }
+            map(position);
+        }
+
+        private void map(long position) throws IOException {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, MAX_WINDOW));
+            window.order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Inserts batches on a fixed pool, blocking the reader while too many batches are pending and
+     * failing the restore with the first insert error.
+     */
+    private static final class Loader implements AutoCloseable {
+        private static final InsertManyOptions OPTIONS = new InsertManyOptions().ordered(false);
+
+        private final ExecutorService executor;
+        private final Semaphore pending;
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private Loader(int parallelism) {
+            this.executor = Executors.newFixedThreadPool(parallelism,
+                    Thread.ofPlatform().name("snapshot-restore-", 0).factory());
+            this.pending = new Semaphore(parallelism * 2);
+        }
+
+        private void insert(MongoCollection<RawBsonDocument> collection, List<RawBsonDocument> batch) {
+            rethrowFailure();
+            pending.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    collection.insertMany(batch, OPTIONS);
+                    inserted.addAndGet(batch.size());
+                } catch (RuntimeException ex) {
+                    failure.compareAndSet(null, ex);
+                } finally {
+                    pending.release();
+                }
+            });
+        }
+
+        private void await() {
+            executor.close();
+            rethrowFailure();
+            log.debug("Inserted {} snapshot documents", inserted.get());
+        }
+
+        private void rethrowFailure() {
+            var ex = failure.get();
+            if (ex != null) {
+                throw ex;
+            }
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Externalized settings of bulk imports, bound from the {@code zoo.import} prefix.
+ *
+ * <p>
+ * An import holds at most {@code (queueCapacity + 2) * batchSize} parsed animals in memory: the batch being
+ * parsed, the queued batches and the batch being written.
+ * </p>
+ *
+ * @param batchSize     number of animals written by one unordered {@code insertMany}
+ * @param queueCapacity number of parsed batches waiting for the writer before parsing blocks
+ * @param maxErrors     maximum number of line errors listed in the report, further errors are only counted
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@ConfigurationProperties(prefix = "zoo.import")
+public record ImportProperties(
+        @DefaultValue("1000")
+        int batchSize,
+
+        @DefaultValue("4")
+        int queueCapacity,
+
+        @DefaultValue("1000")
+        int maxErrors
+) {
+}
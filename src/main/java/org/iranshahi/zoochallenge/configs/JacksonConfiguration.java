@@ -0,0 +1,25 @@
+package org.iranshahi.zoochallenge.configs;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers a default for the {@value FieldSelection#FILTER} filter of the DTOs, so responses without a sparse
+ * fieldset serialize all fields.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
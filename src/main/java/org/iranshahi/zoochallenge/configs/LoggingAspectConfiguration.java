@@ -11,7 +11,7 @@ import org.springframework.context.annotation.EnableAspectJAutoProxy;
 public class LoggingAspectConfiguration {
 
     @Bean
-    public LoggingAspect loggingAspect() {
-        return new LoggingAspect();
+    public LoggingAspect loggingAspect(LoggingProperties loggingProperties) {
+        return new LoggingAspect(loggingProperties);
     }
 }
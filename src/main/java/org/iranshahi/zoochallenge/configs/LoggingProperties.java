@@ -0,0 +1,49 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Externalized settings of the call tracing of {@link org.iranshahi.zoochallenge.aspect.log.LoggingAspect},
+ * bound from the {@code zoo.logging} prefix. They bound the cost of turning DEBUG on in production. The
+ * {@code zoo.logging.async.*} settings of the appender queues are read by {@code logback-spring.xml} itself.
+ *
+ * @param maxValueLength maximum number of characters an argument list or result is rendered with
+ * @param maxElements    maximum number of elements rendered of a collection, map, array or page
+ * @param sampling       the fraction of calls traced at DEBUG, keyed by package or class name; the longest
+ *                       matching key wins and calls of unlisted packages are always traced
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@ConfigurationProperties(prefix = "zoo.logging")
+public record LoggingProperties(
+        @DefaultValue("256")
+        int maxValueLength,
+
+        @DefaultValue("10")
+        int maxElements,
+
+        Map<String, Double> sampling
+) {
+
+    public LoggingProperties {
+        sampling = sampling == null ? Map.of() : Map.copyOf(sampling);
+    }
+
+    /**
+     * @param typeName the fully qualified name of a class
+     * @return the fraction of calls of the class to trace, between 0 and 1
+     */
+    public double samplingRate(String typeName) {
+        String match = null;
+        for (var key : sampling.keySet()) {
+            boolean matches = typeName.equals(key) || typeName.startsWith(key + ".");
+            if (matches && (match == null || key.length() > match.length())) {
+                match = key;
+            }
+        }
+        return match == null ? 1.0 : Math.clamp(sampling.get(match), 0.0, 1.0);
+    }
+}
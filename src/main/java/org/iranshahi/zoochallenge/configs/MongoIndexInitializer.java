@@ -0,0 +1,84 @@
+package org.iranshahi.zoochallenge.configs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.iranshahi.zoochallenge.business.service.impl.ZooSnapshotRunner;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Creates the indexes which can't be declared on the mapped entities, because they need a collation or
+ * replace an index created by earlier versions.
+ *
+ * <h3>Indexes</h3>
+ * <ul>
+ *   <li>{@value Room#TITLE_INDEX} — unique, case-insensitive index on {@code rooms.title}, limited to rooms
+ *   which have a title; replaces the former plain {@code title} index</li>
+ * </ul>
+ *
+ * <p>
+ * The indexes are created before the web server starts, so no room is created while the title isn't unique yet.
+ * Startup fails if existing rooms already share a title ignoring case, since uniqueness can't be
+ * guaranteed then; rename those rooms first.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer implements SmartLifecycle {
+
+    private static final String LEGACY_TITLE_INDEX = "title";
+
+    private final MongoTemplate mongoTemplate;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        createIndexes();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * After a snapshot restore, which creates the indexes of the restored collections itself.
+     */
+    @Override
+    public int getPhase() {
+        return ZooSnapshotRunner.PHASE + 100;
+    }
+
+    public void createIndexes() {
+        var rooms = mongoTemplate.indexOps(Room.class);
+        if (rooms.getIndexInfo().stream().anyMatch(index -> LEGACY_TITLE_INDEX.equals(index.getName()))) {
+            rooms.dropIndex(LEGACY_TITLE_INDEX);
+            log.info("Dropped legacy index {} of rooms", LEGACY_TITLE_INDEX);
+        }
+        rooms.createIndex(new Index()
+                .on("title", Sort.Direction.ASC)
+                .named(Room.TITLE_INDEX)
+                .unique()
+                .collation(Collation.parse(Room.TITLE_COLLATION))
+                .partial(PartialIndexFilter.of(where("title").type(JsonSchemaObject.Type.STRING))));
+    }
+}
@@ -0,0 +1,92 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Externalized settings of the placement flow, bound from the {@code zoo.placement} prefix.
+ *
+ * <h3>Modes</h3>
+ * <ul>
+ *   <li>{@link PlacementMode#OPTIMISTIC} — reads animal and room, checks the rules in Java and saves both
+ *   documents, retrying with a backoff on optimistic lock conflicts (default)</li>
+ *   <li>{@link PlacementMode#ATOMIC} — expresses the capacity and category rules in the filter of a single
+ *   conditional {@code findAndModify} on the room, so a hot room never needs retries or backoff</li>
+ * </ul>
+ *
+ * @param mode  the placement strategy used by {@link org.iranshahi.zoochallenge.business.service.PlacementService}
+ * @param queue settings of the per-room command queues used by asynchronous placement requests
+ * @param index settings of the in-memory free-capacity index used by automatic placement
+ * @param contention settings of the per-room conflict window reported by the {@code placementcontention} endpoint
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@ConfigurationProperties(prefix = "zoo.placement")
+public record PlacementProperties(
+        @DefaultValue("OPTIMISTIC")
+        PlacementMode mode,
+
+        @DefaultValue
+        Queue queue,
+
+        @DefaultValue
+        Index index,
+
+        @DefaultValue
+        Contention contention
+) {
+
+    public enum PlacementMode {
+        OPTIMISTIC,
+        ATOMIC
+    }
+
+    /**
+     * @param workers    number of threads draining the room mailboxes, a room is never drained by two at once
+     * @param maxPending maximum number of queued commands before new ones are rejected
+     * @param retention  how long a finished command stays available to be polled
+     */
+    public record Queue(
+            @DefaultValue("4")
+            int workers,
+
+            @DefaultValue("10000")
+            int maxPending,
+
+            @DefaultValue("10m")
+            Duration retention
+    ) {
+    }
+
+    /**
+     * @param candidates      maximum number of best-fitting rooms tried by one automatic placement
+     * @param rebuildInterval minimum time between two rebuilds of the index when it has no candidate
+     */
+    public record Index(
+            @DefaultValue("5")
+            int candidates,
+
+            @DefaultValue("30s")
+            Duration rebuildInterval
+    ) {
+    }
+
+    /**
+     * @param window  how far back conflicts are counted
+     * @param buckets number of slices the window is divided into, it slides by one slice at a time
+     * @param top     default number of rooms listed by the endpoint
+     */
+    public record Contention(
+            @DefaultValue("5m")
+            Duration window,
+
+            @DefaultValue("10")
+            int buckets,
+
+            @DefaultValue("10")
+            int top
+    ) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+/**
+ * Fills {@code created} and {@code updated} on saves through the reactive repositories, the auditing of
+ * {@link MongoConfig} only applies to the blocking template.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Configuration
+@EnableReactiveMongoAuditing
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMongoConfig {
+}
@@ -0,0 +1,77 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.iranshahi.zoochallenge.exceptions.DuplicateRoomTitleException;
+import org.iranshahi.zoochallenge.exceptions.PlacementQueueFullException;
+import org.iranshahi.zoochallenge.exceptions.ZooBusinessException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps exceptions of the {@code reactive} profile to the same responses {@link ZooExceptionHandler} gives
+ * on the servlet stack.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ * @see ZooExceptionHandler
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveZooExceptionHandler {
+
+    @ExceptionHandler(ZooBusinessException.class)
+    public ResponseEntity<ProblemDetail> handleZooExceptions(ZooBusinessException ex) {
+        var problem = ZooExceptionHandler.problemOf(ex);
+        return ResponseEntity.status(problem.getStatus()).body(problem);
+    }
+
+    @ExceptionHandler(DuplicateRoomTitleException.class)
+    public ResponseEntity<?> handleDuplicate(DuplicateRoomTitleException ex) {
+        return ResponseEntity.status(409).body(Map.of("error", ex.getMessage()));
+    }
+
+    @ExceptionHandler(PlacementQueueFullException.class)
+    public ResponseEntity<ProblemDetail> handleQueueFull(PlacementQueueFullException ex) {
+        return ZooExceptionHandler.retryLater(ex);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleValidationErrors(WebExchangeBindException ex, ServerHttpRequest req) {
+        var pd = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+        pd.setType(URI.create("https://zoo.org/errors/validation-failed"));
+        pd.setTitle("Validation failed");
+        pd.setDetail("Request validation failed for one or more fields.");
+        pd.setProperty("path", req.getPath().value());
+        pd.setProperty("timestamp", Instant.now());
+
+        Map<String, String> fieldErrors = new HashMap<>();
+        for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
+            fieldErrors.put(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+        pd.setProperty("errors", fieldErrors);
+
+        return ResponseEntity.status(pd.getStatus()).body(pd);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetail> handleGeneric(Exception ex, ServerHttpRequest req) {
+        var pd = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+        pd.setType(URI.create("https://zoo.org/errors/internal"));
+        pd.setTitle("Internal error");
+        pd.setDetail(ex.getMessage());
+        pd.setProperty("path", req.getPath().value());
+        pd.setProperty("timestamp", Instant.now());
+        return ResponseEntity.status(pd.getStatus()).body(pd);
+    }
+}
@@ -0,0 +1,60 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Externalized settings of room storage, bound from the {@code zoo.rooms} prefix.
+ *
+ * <h3>Occupancy Modes</h3>
+ * <ul>
+ *   <li>{@link OccupancyMode#EMBEDDED} — every room keeps the set of its animal ids next to the
+ *   {@code animalCount} and {@code usedVolume} counters (default)</li>
+ *   <li>{@link OccupancyMode#DERIVED} — a room only keeps the counters, its animals are derived from the
+ *   indexed {@code Animal.roomId}; room reads and writes stay constant-size however many animals it holds</li>
+ * </ul>
+ *
+ * @param occupancy      how the animals of a room are stored
+ * @param cache          settings of the in-process cache of room lookups
+ * @param recountAnimals whether to repair the {@code animalCount} of the rooms from {@code Animal.roomId} once on
+ *                       startup, and in {@code DERIVED} mode drop their legacy {@code animalIds}, e.g.
+ *                       {@code --zoo.rooms.recount-animals=true} on the first start after an upgrade
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@ConfigurationProperties(prefix = "zoo.rooms")
+public record RoomProperties(
+        @DefaultValue("EMBEDDED")
+        OccupancyMode occupancy,
+
+        @DefaultValue
+        Cache cache,
+
+        @DefaultValue("false")
+        boolean recountAnimals
+) {
+
+    public enum OccupancyMode {
+        EMBEDDED,
+        DERIVED
+    }
+
+    public boolean embedded() {
+        return occupancy != OccupancyMode.DERIVED;
+    }
+
+    /**
+     * @param maxSize maximum number of cached rooms
+     * @param ttl     how long an entry is served after it was loaded, bounds the staleness of writes from other nodes
+     */
+    public record Cache(
+            @DefaultValue("10000")
+            long maxSize,
+
+            @DefaultValue("1m")
+            Duration ttl
+    ) {
+    }
+}
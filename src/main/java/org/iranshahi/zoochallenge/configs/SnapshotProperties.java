@@ -0,0 +1,35 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Externalized settings of binary snapshots, bound from the {@code zoo.snapshot} prefix.
+ *
+ * <p>
+ * Snapshots are taken or restored on startup, e.g. {@code --zoo.snapshot.restore=/data/zoo.snap}; the
+ * application keeps running afterwards.
+ * </p>
+ *
+ * @param create      file to write a snapshot of the current data to, {@code null} to not take one
+ * @param restore     file to restore the data from, replacing the current data, {@code null} to not restore
+ * @param batchSize   number of documents inserted by one {@code insertMany} while restoring
+ * @param parallelism number of threads inserting batches while restoring
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@ConfigurationProperties(prefix = "zoo.snapshot")
+public record SnapshotProperties(
+        Path create,
+
+        Path restore,
+
+        @DefaultValue("1000")
+        int batchSize,
+
+        @DefaultValue("4")
+        int parallelism
+) {
+}
@@ -0,0 +1,49 @@
+package org.iranshahi.zoochallenge.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs servlet requests on virtual threads when {@code spring.threads.virtual.enabled} is set, see the
+ * {@code virtual} profile.
+ *
+ * <p>
+ * Spring Boot only switches Tomcat and Jetty to virtual threads. Undertow keeps its IO threads, and blocking
+ * requests are dispatched to the deployment's executor, one new virtual thread per request here, instead of
+ * the fixed worker pool. A request waiting on Mongo or in the placement backoff then parks its virtual thread
+ * and frees the carrier, so in-flight requests are bounded by the Mongo connection pool rather than
+ * {@code server.undertow.threads.worker}.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService virtualRequestExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-virtual-", 0).factory());
+    }
+
+    @Bean
+    public UndertowDeploymentInfoCustomizer virtualThreadDeploymentInfoCustomizer(ExecutorService virtualRequestExecutor) {
+        return deploymentInfo -> deploymentInfo
+                .setExecutor(virtualRequestExecutor)
+                .setAsyncExecutor(virtualRequestExecutor);
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                                   VirtualThreadProperties virtualThreadProperties) {
+        return new VirtualThreadPinningMonitor(meterRegistry, virtualThreadProperties.pinnedThreshold());
+    }
+}
@@ -0,0 +1,103 @@
+package org.iranshahi.zoochallenge.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} events of this JVM into the {@code zoo.virtual.pinned} timer,
+ * tagged with the innermost application frame which was pinned.
+ *
+ * <p>
+ * A virtual thread is pinned when it blocks inside a {@code synchronized} block or a native frame: its carrier
+ * can't run other virtual threads meanwhile. Audited paths and why they don't pin on I/O:
+ * </p>
+ * <ul>
+ *   <li>the {@code synchronized} sections of {@code PlacementMetrics} and the import error list only touch
+ *   memory</li>
+ *   <li>{@code RoomCache} loads rooms outside of Caffeine's compute, which holds a map bin lock</li>
+ *   <li>{@code LoggingAspect} and the AOP proxies don't lock, Logback appenders lock with
+ *   {@code ReentrantLock}</li>
+ *   <li>the Mongo driver's connection pool waits with {@code java.util.concurrent} locks</li>
+ * </ul>
+ * <p>
+ * Any site recorded here is logged once, with its stack, to be fixed.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "org.iranshahi.zoochallenge.";
+    private static final String UNKNOWN_SITE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        var recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::pinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Recording virtual threads pinned for at least {}", threshold);
+    }
+
+    private void pinned(RecordedEvent event) {
+        var site = siteOf(event);
+        Timer.builder("zoo.virtual.pinned")
+                .description("Time virtual threads stayed pinned to their carrier thread")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} at {}:\n{}", event.getDuration(), site, event.getStackTrace());
+        }
+    }
+
+    private static String siteOf(RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return UNKNOWN_SITE;
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse(UNKNOWN_SITE);
+    }
+
+    @Override
+    public void stop() {
+        var recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+}
@@ -0,0 +1,20 @@
+package org.iranshahi.zoochallenge.configs;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Externalized settings of the virtual thread profile, bound from the {@code zoo.virtual-threads} prefix.
+ *
+ * @param pinnedThreshold minimum time a virtual thread must stay pinned to its carrier to be recorded
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@ConfigurationProperties(prefix = "zoo.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("20ms")
+        Duration pinnedThreshold
+) {
+}
@@ -2,7 +2,10 @@ package org.iranshahi.zoochallenge.configs;
 
 import jakarta.servlet.http.HttpServletRequest;
 import org.iranshahi.zoochallenge.exceptions.DuplicateRoomTitleException;
+import org.iranshahi.zoochallenge.exceptions.PlacementQueueFullException;
 import org.iranshahi.zoochallenge.exceptions.ZooBusinessException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -47,6 +50,7 @@ import java.util.Map;
  */
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ZooExceptionHandler {
 
     /**
@@ -61,13 +65,21 @@ public class ZooExceptionHandler {
      */
     @ExceptionHandler(ZooBusinessException.class)
     public ResponseEntity<ProblemDetail> handleZooExceptions(ZooBusinessException ex, WebRequest req) {
+        var problem = problemOf(ex);
+        return ResponseEntity.status(problem.getStatus()).body(problem);
+    }
+
+    /**
+     * Builds the {@link ProblemDetail} of a domain exception, shared with {@link ReactiveZooExceptionHandler}.
+     */
+    static ProblemDetail problemOf(ZooBusinessException ex) {
         var problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
         problem.setTitle(ex.getClass().getSimpleName());
         problem.setType(URI.create("https://zoo.org/errors/" + ex.getErrorCode().toLowerCase()));
         problem.setDetail(ex.getMessage());
         problem.setProperty("timestamp", Instant.now());
         problem.setProperty("errorCode", ex.getErrorCode());
-        return ResponseEntity.status(problem.getStatus()).body(problem);
+        return problem;
     }
 
 
@@ -76,6 +88,26 @@ public class ZooExceptionHandler {
         return ResponseEntity.status(409).body(Map.of("error", ex.getMessage()));
     }
 
+    /**
+     * A full placement queue is a temporary overload rather than a bad request, so it is answered with
+     * HTTP 503 and a {@code Retry-After} telling the client when to submit again.
+     */
+    @ExceptionHandler(PlacementQueueFullException.class)
+    public ResponseEntity<ProblemDetail> handleQueueFull(PlacementQueueFullException ex) {
+        return retryLater(ex);
+    }
+
+    /**
+     * Builds the response to a full placement queue, shared with {@link ReactiveZooExceptionHandler}.
+     */
+    static ResponseEntity<ProblemDetail> retryLater(PlacementQueueFullException ex) {
+        var problem = problemOf(ex);
+        problem.setStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(problem.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(PlacementQueueFullException.RETRY_AFTER_SECONDS))
+                .body(problem);
+    }
+
     /**
      * Fallback handler for all unexpected exceptions.
      *
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Min;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -35,7 +37,8 @@ import java.util.Set;
  *
  * <h3>Indexes</h3>
  * <ul>
- *   <li>{@link #roomId} — for efficient lookups of animals within a room</li>
+ *   <li>{@code (roomId, title, _id)}, {@code (roomId, located, _id)} and {@code (roomId, volume, _id)} — for
+ *   lookups of animals within a room, and keyset pages of a room sorted by one of these fields</li>
  *   <li>{@link #favouriteRoomIds} — for favourite-room aggregation and reports</li>
  *   <li>{@link #title} — for searching and sorting animals by name</li>
  * </ul>
@@ -53,6 +56,11 @@ import java.util.Set;
  * @since 9 Oct 2025
  */
 @Document(collection = "animals")
+@CompoundIndexes({
+        @CompoundIndex(name = "room_title_id", def = "{'roomId': 1, 'title': 1, '_id': 1}"),
+        @CompoundIndex(name = "room_located_id", def = "{'roomId': 1, 'located': 1, '_id': 1}"),
+        @CompoundIndex(name = "room_volume_id", def = "{'roomId': 1, 'volume': 1, '_id': 1}")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -75,7 +83,6 @@ public class Animal extends AuditEntity {
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate located;
 
-    @Indexed
     private String roomId;
 
     @Version
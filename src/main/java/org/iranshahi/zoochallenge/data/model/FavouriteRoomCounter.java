@@ -0,0 +1,43 @@
+package org.iranshahi.zoochallenge.data.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+/**
+ * Number of animals which have a room as favourite, maintained incrementally.
+ *
+ * <h3>Persistence</h3>
+ * <ul>
+ *   <li>MongoDB collection: <b>favouriteRoomCounters</b>, one document per room, keyed by the room id</li>
+ *   <li>{@link #title} is a copy of the room title, so the report needs no lookup into rooms</li>
+ *   <li>{@code count_desc_id} on ({@link #count} desc, {@link #roomId}) — serves the report and the
+ *   keyset pages of the leaderboard without an in-memory sort</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @see org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository
+ * @since 17 Oct 2026
+ */
+@Document(collection = FavouriteRoomCounter.COLLECTION)
+@CompoundIndex(name = "count_desc_id", def = "{'count': -1, '_id': 1}")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class FavouriteRoomCounter {
+
+    public static final String COLLECTION = "favouriteRoomCounters";
+
+    @Id
+    @Field(targetType = FieldType.STRING)
+    private String roomId;
+
+    private String title;
+
+    private long count;
+}
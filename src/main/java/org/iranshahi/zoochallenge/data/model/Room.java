@@ -5,7 +5,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
-import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.FieldType;
@@ -33,14 +32,17 @@ import java.util.Set;
  *
  * <h3>Indexes</h3>
  * <ul>
- *   <li>{@link #title} — for efficient room search and sorting</li>
+ *   <li>{@value #TITLE_INDEX} on {@link #title} — unique under the case-insensitive {@link #TITLE_COLLATION},
+ *   created by {@link org.iranshahi.zoochallenge.configs.MongoIndexInitializer}</li>
  * </ul>
  *
  * <h3>Domain Fields</h3>
  * <ul>
  *   <li>{@link #capacity} — the maximum total volume of animals that can fit in this room</li>
  *   <li>{@link #usedVolume} — the currently occupied volume by animals</li>
- *   <li>{@link #animalIds} — identifiers of animals currently residing in this room</li>
+ *   <li>{@link #animalIds} — identifiers of animals currently residing in this room, only kept in
+ *   {@code EMBEDDED} occupancy mode</li>
+ *   <li>{@link #animalCount} — the number of animals currently residing in this room</li>
  *   <li>{@link #allowedCategory} — restricts the type of animals allowed (e.g., DOMESTIC, WILD)</li>
  * </ul>
  *
@@ -69,11 +71,14 @@ import java.util.Set;
 @Getter
 @Setter
 public class Room extends AuditEntity {
+
+    public static final String TITLE_INDEX = "title_ci_unique";
+    public static final String TITLE_COLLATION = "{ 'locale': 'en', 'strength': 2 }";
+
     @Id
     @Field(targetType = FieldType.STRING)
     private String id;
 
-    @Indexed
     private String title;
 
     @Min(1)
@@ -83,6 +88,8 @@ public class Room extends AuditEntity {
 
     private Set<String> animalIds = new HashSet<>();
 
+    private long animalCount;
+
     @NotNull
     private Category allowedCategory;
 
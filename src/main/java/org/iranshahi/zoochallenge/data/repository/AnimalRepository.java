@@ -4,6 +4,10 @@ import org.iranshahi.zoochallenge.data.model.Animal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 /**
@@ -25,7 +29,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  * @author Reza Iranshahi
  * @since 9 Oct 2025
  */
-public interface AnimalRepository extends MongoRepository<Animal, String> {
+public interface AnimalRepository extends MongoRepository<Animal, String>, AnimalRepositoryCustom {
 
     /**
      * Retrieves all animals currently assigned to a specific room.
@@ -43,4 +47,22 @@ public interface AnimalRepository extends MongoRepository<Animal, String> {
      * @return the total number of animals that have this room in their favourites
      */
     long countByFavouriteRoomIdsContaining(String roomId);
+
+    /**
+     * Streams the volume and category of all animals which are not placed in a room.
+     * The returned stream holds a cursor and must be closed.
+     *
+     * @return unplaced animals with only {@code volume} and {@code category}
+     */
+    @Query(value = "{ 'roomId': null }", fields = "{ 'volume': 1, 'category': 1 }")
+    Stream<Animal> streamUnplaced();
+
+    /**
+     * Reads only the version of an animal, used to answer conditional requests without loading the document.
+     *
+     * @param animalId the ID of animal
+     * @return the animal with only {@code id} and {@code version}
+     */
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'version': 1 }")
+    Optional<Animal> findVersionById(String animalId);
 }
@@ -0,0 +1,145 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Custom fragment of {@link AnimalRepository} for targeted updates of single fields of an
+ * {@link org.iranshahi.zoochallenge.data.model.Animal Animal}, without rewriting the whole document, and for
+ * projected reads which load only some fields of it.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface AnimalRepositoryCustom {
+
+    /**
+     * Moves the animal to {@code newRoomId}, only if it is still located in {@code expectedRoomId}.
+     *
+     * @param animalId       the ID of animal
+     * @param expectedRoomId the room the animal is expected to be in, {@code null} when it's not placed
+     * @param newRoomId      the new room of the animal, {@code null} to remove it from any room
+     * @return {@code true} if the animal was updated, {@code false} if it doesn't exist or was moved concurrently
+     */
+    boolean assignRoom(String animalId, String expectedRoomId, String newRoomId);
+
+    /**
+     * Places several unplaced animals as a single unordered bulk write.
+     *
+     * @param roomsByAnimal the new room ID of each animal, keyed by animal ID
+     * @return the IDs of animals which were updated by this write, animals placed concurrently are left out
+     * even if they were placed in the same room
+     */
+    Set<String> assignRooms(Map<String, String> roomsByAnimal);
+
+    /**
+     * Inserts new animals as a single unordered bulk write, an animal which fails doesn't stop the others.
+     *
+     * @param animals the animals to insert, with their version initialized
+     * @return the error of each animal which wasn't inserted, keyed by its position in {@code animals}
+     */
+    Map<Integer, String> insertUnordered(List<Animal> animals);
+
+    /**
+     * Sets the title and location date of the animal.
+     *
+     * @param animalId the ID of animal
+     * @param title    the new title
+     * @param located  the new location date
+     * @return the updated animal, or empty if it doesn't exist
+     */
+    Optional<Animal> updateDetails(String animalId, String title, LocalDate located);
+
+    /**
+     * Adds a room to the favourites of the animal, only if it isn't a favourite already.
+     *
+     * @param animalId the ID of animal
+     * @param roomId   the ID of room
+     * @return the updated animal, or empty if it doesn't exist or the room was a favourite already
+     */
+    Optional<Animal> addFavouriteRoom(String animalId, String roomId);
+
+    /**
+     * Removes a room from the favourites of the animal, only if it is a favourite.
+     *
+     * @param animalId the ID of animal
+     * @param roomId   the ID of room
+     * @return the updated animal, or empty if it doesn't exist or the room wasn't a favourite
+     */
+    Optional<Animal> removeFavouriteRoom(String animalId, String roomId);
+
+    /**
+     * Deletes the animal in one round trip, returning what is needed to clean up after it.
+     *
+     * @param animalId the ID of animal
+     * @return the deleted animal with only its favourite rooms loaded, or empty if it doesn't exist
+     */
+    Optional<Animal> deleteReturningFavourites(String animalId);
+
+    /**
+     * Reads the animal with only the given fields, {@code id} is always included.
+     *
+     * @param animalId the ID of animal
+     * @param fields   the fields to load
+     * @return the partially loaded animal, or empty if it doesn't exist
+     */
+    Optional<Animal> findProjectedById(String animalId, Collection<String> fields);
+
+    /**
+     * Reads a page of the animals placed in the room with only the given fields, {@code id} is always included.
+     *
+     * @param roomId   the ID of room
+     * @param pageable pagination and sorting configuration
+     * @param fields   the fields to load
+     * @return a page of partially loaded animals
+     */
+    Page<Animal> findProjectedByRoomId(String roomId, Pageable pageable, Collection<String> fields);
+
+    /**
+     * Reads the animals of the room which follow a position in the order of {@code (sortField, _id)}, seeking
+     * on the {@code (roomId, sortField, _id)} index instead of skipping, and without counting the room.
+     * Animals without a value of {@code sortField} sort before all others, as in Mongo.
+     *
+     * @param roomId     the ID of room
+     * @param sortField  the field to sort by, one with a {@code (roomId, sortField, _id)} index
+     * @param direction  the direction of both {@code sortField} and {@code _id}
+     * @param afterValue the {@code sortField} value of the last animal of the previous slice
+     * @param afterId    the ID of the last animal of the previous slice, {@code null} for the first slice
+     * @param limit      the maximum number of animals
+     * @param fields     the fields to load, {@code null} for all fields
+     * @return the next animals in order
+     */
+    List<Animal> findSliceByRoomId(String roomId, String sortField, Sort.Direction direction,
+                                   Object afterValue, String afterId, int limit, Collection<String> fields);
+
+    /**
+     * Reads the animal together with summaries of its related rooms in one aggregation, each relation is
+     * resolved by a {@code $lookup} on the rooms {@code _id}.
+     *
+     * @param animalId   the ID of animal
+     * @param room       whether to look up the room the animal is placed in
+     * @param favourites whether to look up the favourite rooms of the animal
+     * @return the animal with the looked up rooms, or empty if it doesn't exist
+     */
+    Optional<AnimalWithRooms> findWithRoomsById(String animalId, boolean room, boolean favourites);
+
+    /**
+     * An animal with the rooms it refers to, the rooms only have their summary fields loaded.
+     *
+     * @param animal         the animal
+     * @param room           the room of the animal, {@code null} when it isn't placed or wasn't looked up
+     * @param favouriteRooms the existing favourite rooms sorted by title, {@code null} when they weren't looked up
+     */
+    record AnimalWithRooms(Animal animal, Room room, List<Room> favouriteRooms) {
+    }
+}
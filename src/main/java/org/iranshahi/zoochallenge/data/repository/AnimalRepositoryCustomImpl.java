@@ -0,0 +1,218 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.Pair;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link AnimalRepositoryCustom}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RequiredArgsConstructor
+public class AnimalRepositoryCustomImpl implements AnimalRepositoryCustom {
+
+    private static final String ROOMS = "rooms";
+    private static final Document ROOM_SUMMARY = new Document("title", 1)
+            .append("capacity", 1)
+            .append("usedVolume", 1)
+            .append("allowedCategory", 1);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public boolean assignRoom(String animalId, String expectedRoomId, String newRoomId) {
+        var update = new Update()
+                .set("roomId", newRoomId)
+                .inc("version", 1)
+                .currentDate("updated");
+        var result = mongoTemplate.updateFirst(
+                query(where("_id").is(animalId).and("roomId").is(expectedRoomId)), update, Animal.class);
+        return result.getMatchedCount() > 0;
+    }
+
+    @Override
+    public Set<String> assignRooms(Map<String, String> roomsByAnimal) {
+        if (roomsByAnimal.isEmpty()) {
+            return Set.of();
+        }
+        var animalIds = List.copyOf(roomsByAnimal.keySet());
+        var updates = new ArrayList<Pair<Query, Update>>(animalIds.size());
+        for (var animalId : animalIds) {
+            updates.add(Pair.of(query(where("_id").is(animalId).and("roomId").is(null)),
+                    new Update().set("roomId", roomsByAnimal.get(animalId)).inc("version", 1).currentDate("updated")));
+        }
+        // an animal placed concurrently in the same room is left out as well, its placement claimed the volume
+        return ConditionalBulk.apply(mongoTemplate, Animal.class, updates).stream()
+                .map(animalIds::get)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Animal> animals) {
+        if (animals.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Animal.class).insert(animals).execute();
+            return Map.of();
+        } catch (BulkOperationException ex) {
+            return ex.getErrors().stream()
+                    .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage, (first, second) -> first));
+        }
+    }
+
+    @Override
+    public Optional<Animal> updateDetails(String animalId, String title, LocalDate located) {
+        return modify(query(where("_id").is(animalId)), new Update().set("title", title).set("located", located));
+    }
+
+    @Override
+    public Optional<Animal> addFavouriteRoom(String animalId, String roomId) {
+        return modify(query(where("_id").is(animalId).and("favouriteRoomIds").ne(roomId)),
+                new Update().addToSet("favouriteRoomIds", roomId));
+    }
+
+    @Override
+    public Optional<Animal> removeFavouriteRoom(String animalId, String roomId) {
+        return modify(query(where("_id").is(animalId).and("favouriteRoomIds").is(roomId)),
+                new Update().pull("favouriteRoomIds", roomId));
+    }
+
+    @Override
+    public Optional<Animal> deleteReturningFavourites(String animalId) {
+        var q = query(where("_id").is(animalId));
+        q.fields().include("favouriteRoomIds");
+        return Optional.ofNullable(mongoTemplate.findAndRemove(q, Animal.class));
+    }
+
+    @Override
+    public Optional<Animal> findProjectedById(String animalId, Collection<String> fields) {
+        var q = query(where("_id").is(animalId));
+        fields.forEach(q.fields()::include);
+        return Optional.ofNullable(mongoTemplate.findOne(q, Animal.class));
+    }
+
+    @Override
+    public Page<Animal> findProjectedByRoomId(String roomId, Pageable pageable, Collection<String> fields) {
+        var q = query(where("roomId").is(roomId)).with(pageable);
+        fields.forEach(q.fields()::include);
+        var content = mongoTemplate.find(q, Animal.class);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(query(where("roomId").is(roomId)), Animal.class));
+    }
+
+    @Override
+    public List<Animal> findSliceByRoomId(String roomId, String sortField, Sort.Direction direction,
+                                          Object afterValue, String afterId, int limit, Collection<String> fields) {
+        var criteria = where("roomId").is(roomId);
+        if (afterId != null) {
+            criteria = criteria.orOperator(after(sortField, direction, afterValue, afterId));
+        }
+        var q = query(criteria)
+                .with(Sort.by(direction, sortField, "_id"))
+                .limit(limit);
+        if (fields != null) {
+            fields.forEach(q.fields()::include);
+        }
+        return mongoTemplate.find(q, Animal.class);
+    }
+
+    /**
+     * Alternatives which select the documents after a keyset position. Comparison operators never match
+     * {@code null}, which sorts first, so nulls are matched explicitly.
+     */
+    private static Criteria[] after(String sortField, Sort.Direction direction, Object value, String id) {
+        boolean asc = direction.isAscending();
+        var sameValueAfterId = asc
+                ? where(sortField).is(value).and("_id").gt(id)
+                : where(sortField).is(value).and("_id").lt(id);
+        if (value == null) {
+            return asc
+                    ? new Criteria[]{sameValueAfterId, where(sortField).ne(null)}
+                    : new Criteria[]{sameValueAfterId};
+        }
+        return asc
+                ? new Criteria[]{sameValueAfterId, where(sortField).gt(value)}
+                : new Criteria[]{sameValueAfterId, where(sortField).lt(value), where(sortField).is(null)};
+    }
+
+    /**
+     * Applies the update in one round trip and bumps the version, so optimistic-lock users still see the change.
+     */
+    private Optional<Animal> modify(Query query, Update update) {
+        update.inc("version", 1).currentDate("updated");
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Animal.class));
+    }
+
+    @Override
+    public Optional<AnimalWithRooms> findWithRoomsById(String animalId, boolean room, boolean favourites) {
+        var stages = new ArrayList<AggregationOperation>();
+        stages.add(Aggregation.match(where("_id").is(animalId)));
+        if (room) {
+            stages.add(lookupRooms("roomId", "expandedRoom"));
+        }
+        if (favourites) {
+            stages.add(lookupRooms("favouriteRoomIds", "expandedFavouriteRooms"));
+        }
+        var document = mongoTemplate.aggregate(Aggregation.newAggregation(stages), Animal.class, Document.class)
+                .getUniqueMappedResult();
+        if (document == null) {
+            return Optional.empty();
+        }
+        var converter = mongoTemplate.getConverter();
+        var animal = converter.read(Animal.class, document);
+        var rooms = room ? readRooms(document, "expandedRoom") : List.<Room>of();
+        var favouriteRooms = favourites ? readRooms(document, "expandedFavouriteRooms") : null;
+        return Optional.of(new AnimalWithRooms(animal, rooms.isEmpty() ? null : rooms.getFirst(), favouriteRooms));
+    }
+
+    /**
+     * Looks up the rooms whose {@code _id} is the value, or one of the values, of {@code localField}.
+     */
+    private static AggregationOperation lookupRooms(String localField, String as) {
+        return context -> new Document("$lookup", new Document("from", ROOMS)
+                .append("localField", localField)
+                .append("foreignField", "_id")
+                .append("pipeline", List.of(
+                        new Document("$sort", new Document("title", 1).append("_id", 1)),
+                        new Document("$project", ROOM_SUMMARY)))
+                .append("as", as));
+    }
+
+    private List<Room> readRooms(Document document, String field) {
+        return document.getList(field, Document.class, List.of()).stream()
+                .map(room -> mongoTemplate.getConverter().read(Room.class, room))
+                .toList();
+    }
+}
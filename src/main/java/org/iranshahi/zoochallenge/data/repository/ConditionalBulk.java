@@ -0,0 +1,63 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Applies conditional updates of single documents as one unordered bulk write, and tells which of them applied.
+ *
+ * <p>
+ * The result of a bulk write only has the total number of matched updates. Each update is therefore sent as an
+ * upsert of the {@code _id} in its query: an update whose condition no longer holds tries to insert a second
+ * document with that {@code _id} and fails with a duplicate key error at its index, and a document inserted
+ * because the target was deleted meanwhile is removed again.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+final class ConditionalBulk {
+
+    private ConditionalBulk() {
+    }
+
+    /**
+     * @param updates the queries, each on {@code _id} plus the condition, with their updates
+     * @return the indexes of the updates which applied
+     */
+    static Set<Integer> apply(MongoTemplate mongoTemplate, Class<?> type, List<Pair<Query, Update>> updates) {
+        var applied = IntStream.range(0, updates.size()).boxed().collect(Collectors.toCollection(TreeSet::new));
+        BulkWriteResult result;
+        try {
+            result = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type).upsert(updates).execute();
+        } catch (BulkOperationException ex) {
+            ex.getErrors().forEach(error -> applied.remove(error.getIndex()));
+            result = ex.getResult();
+        }
+        if (!result.getUpserts().isEmpty()) {
+            // the ids are stored as strings, see the @Field of the mapped ids
+            var inserted = new ArrayList<String>();
+            for (var upsert : result.getUpserts()) {
+                applied.remove(upsert.getIndex());
+                inserted.add(upsert.getId().asString().getValue());
+            }
+            mongoTemplate.remove(query(where("_id").in(inserted)), type);
+        }
+        return applied;
+    }
+}
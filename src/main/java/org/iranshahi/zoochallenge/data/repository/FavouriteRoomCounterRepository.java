@@ -0,0 +1,28 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Repository of the incrementally maintained {@link FavouriteRoomCounter} documents.
+ *
+ * <h3>Performance Notes</h3>
+ * <ul>
+ *   <li>Reading the report costs one indexed scan over the rooms which are a favourite,
+ *   independent of the number of animals</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface FavouriteRoomCounterRepository extends MongoRepository<FavouriteRoomCounter, String>,
+        FavouriteRoomCounterRepositoryCustom {
+
+    /**
+     * @param count the exclusive lower bound of the count
+     * @return counters above {@code count}, most favourite room first
+     */
+    List<FavouriteRoomCounter> findByCountGreaterThanOrderByCountDesc(long count);
+}
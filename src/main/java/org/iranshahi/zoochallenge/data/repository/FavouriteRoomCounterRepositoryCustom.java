@@ -0,0 +1,53 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Custom fragment of {@link FavouriteRoomCounterRepository} for atomic counter updates.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface FavouriteRoomCounterRepositoryCustom {
+
+    /**
+     * Adds {@code delta} to the counter of the room, creating the counter if it doesn't exist yet.
+     *
+     * @param roomId the ID of room
+     * @param title  the current title of room
+     * @param delta  the change of count
+     */
+    void increment(String roomId, String title, long delta);
+
+    /**
+     * Subtracts one from the counter of each room.
+     *
+     * @param roomIds the IDs of rooms which lost an animal's favour
+     */
+    void decrement(Collection<String> roomIds);
+
+    /**
+     * @param roomId the ID of a renamed room
+     * @param title  the new title of room
+     */
+    void updateTitle(String roomId, String title);
+
+    /**
+     * Reads one page of the leaderboard, ordered by count descending and room id ascending.
+     *
+     * @param afterCount  the count of the last room of the previous page, ignored when {@code afterRoomId} is {@code null}
+     * @param afterRoomId the ID of the last room of the previous page, {@code null} for the first page
+     * @param limit       the maximum number of counters
+     * @return the counters with a positive count which follow the given position
+     */
+    List<FavouriteRoomCounter> findPage(long afterCount, String afterRoomId, int limit);
+
+    /**
+     * Recomputes all counters from the favourites of the animals, replacing the collection at once.
+     * Counter updates which run concurrently with the rebuild may be lost, run it again to repair them.
+     */
+    void rebuild();
+}
@@ -0,0 +1,77 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link FavouriteRoomCounterRepositoryCustom}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RequiredArgsConstructor
+public class FavouriteRoomCounterRepositoryCustomImpl implements FavouriteRoomCounterRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void increment(String roomId, String title, long delta) {
+        mongoTemplate.upsert(query(where("_id").is(roomId)),
+                new Update().inc("count", delta).set("title", title),
+                FavouriteRoomCounter.class);
+    }
+
+    @Override
+    public void decrement(Collection<String> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(query(where("_id").in(roomIds).and("count").gt(0)),
+                new Update().inc("count", -1),
+                FavouriteRoomCounter.class);
+    }
+
+    @Override
+    public void updateTitle(String roomId, String title) {
+        mongoTemplate.updateFirst(query(where("_id").is(roomId)), new Update().set("title", title),
+                FavouriteRoomCounter.class);
+    }
+
+    @Override
+    public List<FavouriteRoomCounter> findPage(long afterCount, String afterRoomId, int limit) {
+        var criteria = where("count").gt(0);
+        if (afterRoomId != null) {
+            criteria = criteria.orOperator(
+                    where("count").lt(afterCount),
+                    where("count").is(afterCount).and("_id").gt(afterRoomId));
+        }
+        var q = query(criteria)
+                .with(Sort.by(Sort.Order.desc("count"), Sort.Order.asc("_id")))
+                .limit(limit);
+        return mongoTemplate.find(q, FavouriteRoomCounter.class);
+    }
+
+    @Override
+    public void rebuild() {
+        var aggregation = Aggregation.newAggregation(
+                Aggregation.unwind("favouriteRoomIds"),
+                Aggregation.group("favouriteRoomIds").count().as("count"),
+                Aggregation.lookup("rooms", "_id", "_id", "roomData"),
+                Aggregation.unwind("roomData"),
+                Aggregation.project("count").and("roomData.title").as("title"),
+                Aggregation.out(FavouriteRoomCounter.COLLECTION));
+        mongoTemplate.aggregate(aggregation, Animal.class, Document.class);
+    }
+}
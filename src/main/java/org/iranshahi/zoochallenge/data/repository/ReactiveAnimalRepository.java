@@ -0,0 +1,20 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AnimalRepository}, used by the {@code reactive} profile.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface ReactiveAnimalRepository extends ReactiveMongoRepository<Animal, String>, ReactiveAnimalRepositoryCustom {
+
+    Flux<Animal> findByRoomId(String roomId, Pageable pageable);
+
+    Mono<Long> countByRoomId(String roomId);
+}
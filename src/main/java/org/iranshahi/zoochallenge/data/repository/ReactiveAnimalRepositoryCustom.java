@@ -0,0 +1,26 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.Animal;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Custom fragment of {@link ReactiveAnimalRepository}, the non-blocking versions of the single round trip
+ * updates of {@link AnimalRepositoryCustom}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface ReactiveAnimalRepositoryCustom {
+
+    /**
+     * @see AnimalRepositoryCustom#updateDetails(String, String, LocalDate)
+     */
+    Mono<Animal> updateDetails(String animalId, String title, LocalDate located);
+
+    /**
+     * @see AnimalRepositoryCustom#deleteReturningFavourites(String)
+     */
+    Mono<Animal> deleteReturningFavourites(String animalId);
+}
@@ -0,0 +1,43 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * {@link ReactiveMongoTemplate} based implementation of {@link ReactiveAnimalRepositoryCustom}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RequiredArgsConstructor
+public class ReactiveAnimalRepositoryCustomImpl implements ReactiveAnimalRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Animal> updateDetails(String animalId, String title, LocalDate located) {
+        var update = new Update()
+                .set("title", title)
+                .set("located", located)
+                .inc("version", 1)
+                .currentDate("updated");
+        return reactiveMongoTemplate.findAndModify(query(where("_id").is(animalId)), update,
+                FindAndModifyOptions.options().returnNew(true), Animal.class);
+    }
+
+    @Override
+    public Mono<Animal> deleteReturningFavourites(String animalId) {
+        var q = query(where("_id").is(animalId));
+        q.fields().include("favouriteRoomIds");
+        return reactiveMongoTemplate.findAndRemove(q, Animal.class);
+    }
+}
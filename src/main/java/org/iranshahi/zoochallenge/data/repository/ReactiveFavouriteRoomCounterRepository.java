@@ -0,0 +1,21 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterpart of {@link FavouriteRoomCounterRepository}, used by the {@code reactive} profile.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface ReactiveFavouriteRoomCounterRepository extends ReactiveMongoRepository<FavouriteRoomCounter, String>,
+        ReactiveFavouriteRoomCounterRepositoryCustom {
+
+    /**
+     * @param count the exclusive lower bound of the count
+     * @return counters above {@code count}, most favourite room first
+     */
+    Flux<FavouriteRoomCounter> findByCountGreaterThanOrderByCountDesc(long count);
+}
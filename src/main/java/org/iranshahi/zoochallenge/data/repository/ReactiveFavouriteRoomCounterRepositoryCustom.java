@@ -0,0 +1,24 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Custom fragment of {@link ReactiveFavouriteRoomCounterRepository}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface ReactiveFavouriteRoomCounterRepositoryCustom {
+
+    /**
+     * @see FavouriteRoomCounterRepositoryCustom#decrement(Collection)
+     */
+    Mono<Void> decrement(Collection<String> roomIds);
+
+    /**
+     * @see FavouriteRoomCounterRepositoryCustom#updateTitle(String, String)
+     */
+    Mono<Void> updateTitle(String roomId, String title);
+}
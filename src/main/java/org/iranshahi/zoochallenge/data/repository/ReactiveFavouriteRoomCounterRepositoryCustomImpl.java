@@ -0,0 +1,42 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * {@link ReactiveMongoTemplate} based implementation of {@link ReactiveFavouriteRoomCounterRepositoryCustom}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RequiredArgsConstructor
+public class ReactiveFavouriteRoomCounterRepositoryCustomImpl implements ReactiveFavouriteRoomCounterRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Void> decrement(Collection<String> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return reactiveMongoTemplate.updateMulti(query(where("_id").in(roomIds).and("count").gt(0)),
+                        new Update().inc("count", -1),
+                        FavouriteRoomCounter.class)
+                .then();
+    }
+
+    @Override
+    public Mono<Void> updateTitle(String roomId, String title) {
+        return reactiveMongoTemplate.updateFirst(query(where("_id").is(roomId)), new Update().set("title", title),
+                        FavouriteRoomCounter.class)
+                .then();
+    }
+}
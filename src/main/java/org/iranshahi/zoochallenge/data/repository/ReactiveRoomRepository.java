@@ -0,0 +1,13 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+/**
+ * Non-blocking counterpart of {@link RoomRepository}, used by the {@code reactive} profile.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface ReactiveRoomRepository extends ReactiveMongoRepository<Room, String>, ReactiveRoomRepositoryCustom {
+}
@@ -0,0 +1,18 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.Room;
+import reactor.core.publisher.Mono;
+
+/**
+ * Custom fragment of {@link ReactiveRoomRepository}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface ReactiveRoomRepositoryCustom {
+
+    /**
+     * @see RoomRepositoryCustom#updateTitle(String, String)
+     */
+    Mono<Room> updateTitle(String roomId, String title);
+}
@@ -0,0 +1,33 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * {@link ReactiveMongoTemplate} based implementation of {@link ReactiveRoomRepositoryCustom}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RequiredArgsConstructor
+public class ReactiveRoomRepositoryCustomImpl implements ReactiveRoomRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Room> updateTitle(String roomId, String title) {
+        var update = new Update()
+                .set("title", title)
+                .inc("version", 1)
+                .currentDate("updated");
+        return reactiveMongoTemplate.findAndModify(query(where("_id").is(roomId)), update,
+                FindAndModifyOptions.options().returnNew(true), Room.class);
+    }
+}
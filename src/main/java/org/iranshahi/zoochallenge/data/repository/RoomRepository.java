@@ -2,6 +2,9 @@ package org.iranshahi.zoochallenge.data.repository;
 
 import org.iranshahi.zoochallenge.data.model.Room;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing and manipulating {@link Room} documents in MongoDB.
@@ -14,18 +17,29 @@ import org.springframework.data.mongodb.repository.MongoRepository;
  * </ul>
  *
  * <h3>Performance Notes</h3>
- * The {@code title} field is indexed (see {@link Room#title}), which allows
- * {@link #existsByTitle(String)} to execute efficiently even in large datasets.
+ * The {@code title} field has a unique case-insensitive index (see {@link Room#TITLE_INDEX}), so a duplicate
+ * title is rejected by the insert or update itself instead of a separate lookup.
  *
  * @author Reza Iranshahi
  * @since 9 Oct 2025
  */
-public interface RoomRepository extends MongoRepository<Room, String> {
+public interface RoomRepository extends MongoRepository<Room, String>, RoomRepositoryCustom {
+    /**
+     * Streams the capacity related fields of all rooms, leaving out their animal ids.
+     * The returned stream holds a cursor and must be closed.
+     *
+     * @return rooms with only {@code capacity}, {@code usedVolume}, {@code allowedCategory} and {@code version}
+     */
+    @Query(value = "{}", fields = "{ 'capacity': 1, 'usedVolume': 1, 'allowedCategory': 1, 'version': 1 }")
+    Stream<Room> streamCapacities();
+
     /**
-     * Checks whether a room with the given title already exists in the database.
+     * Streams the capacity related fields of rooms which still have free volume.
+     * The returned stream holds a cursor and must be closed.
      *
-     * @param title the title of the room to check (case-sensitive match)
-     * @return {@code true} if a room with the specified title exists; otherwise {@code false}
+     * @return rooms with only {@code capacity}, {@code usedVolume}, {@code allowedCategory} and {@code version}
      */
-    boolean existsByTitle(String title);
+    @Query(value = "{ '$expr': { '$gt': [ { '$subtract': [ '$capacity', '$usedVolume' ] }, 0 ] } }",
+            fields = "{ 'capacity': 1, 'usedVolume': 1, 'allowedCategory': 1, 'version': 1 }")
+    Stream<Room> streamWithFreeCapacity();
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Custom fragment of {@link RoomRepository} for occupancy changes that must be applied
+ * atomically on the server instead of through a read-modify-save cycle, and for projected reads.
+ *
+ * <h3>Performance Notes</h3>
+ * <ul>
+ *   <li>Each operation is a single {@code findAndModify} round trip, guarded by its filter</li>
+ *   <li>The {@code version} field is incremented so optimistic-lock users still see the change</li>
+ * </ul>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public interface RoomRepositoryCustom {
+
+    /**
+     * Claims {@code volume} in the room for the animal, if and only if the room has enough free
+     * capacity and its allowed category is {@code null} or equal to {@code category}.
+     *
+     * @param roomId   the ID of room
+     * @param animalId the ID of animal which is placed in the room
+     * @param category the animal's category, becomes the room category if it has none
+     * @param volume   the animal's volume
+     * @return the updated room, or empty if the room does not exist or a rule rejected the claim
+     */
+    Optional<Room> claimSpace(String roomId, String animalId, Category category, double volume);
+
+    /**
+     * Releases {@code volume} in the room held by the animal, and clears the allowed category
+     * when the room becomes empty.
+     *
+     * @param roomId   the ID of room
+     * @param animalId the ID of animal which leaves the room
+     * @param volume   the animal's volume
+     * @return the updated room, or empty if the room does not exist or doesn't hold the animal
+     */
+    Optional<Room> releaseSpace(String roomId, String animalId, double volume);
+
+    /**
+     * Sets the title of the room.
+     *
+     * @param roomId the ID of room
+     * @param title  the new title
+     * @return the updated room, or empty if it doesn't exist
+     */
+    Optional<Room> updateTitle(String roomId, String title);
+
+    /**
+     * Applies several claims, one per room, as a single unordered bulk write. Each claim only applies
+     * if the room still has the version the caller validated the claim against, and the result tells
+     * exactly which claims applied.
+     *
+     * @param claims the claims to apply, at most one per room
+     * @return the IDs of rooms whose claim was applied
+     */
+    Set<String> claimSpaces(Collection<SpaceClaim> claims);
+
+    /**
+     * A batch of animals claiming space in one room, already validated against the room at {@code expectedVersion}.
+     *
+     * @param roomId          the ID of room
+     * @param expectedVersion the version of the room the claim was validated against
+     * @param category        the category of the room after the claim
+     * @param volume          the total volume of the animals
+     * @param animalIds       the IDs of animals placed in the room, never empty
+     */
+    record SpaceClaim(String roomId, Long expectedVersion, Category category, double volume, List<String> animalIds) {
+    }
+
+    /**
+     * Sets the {@code animalCount} of every room to the number of animals whose {@code roomId} refers to it,
+     * e.g. for rooms stored before the counter existed. Only rooms whose counter differs are written, and
+     * their version is incremented.
+     *
+     * <p>
+     * The versions of the rooms are read before the animals are counted, and a room is only written if its
+     * version is unchanged, so a room changed by a placement meanwhile keeps the counter of that placement.
+     * </p>
+     *
+     * @param dropAnimalIds whether to also remove the {@code animalIds} of the rooms, which {@code DERIVED}
+     *                      occupancy doesn't keep
+     * @return the number of rooms whose counter was corrected
+     */
+    long recountAnimals(boolean dropAnimalIds);
+
+    /**
+     * Reads the room with only the given fields, {@code id} is always included.
+     *
+     * @param roomId the ID of room
+     * @param fields the fields to load
+     * @return the partially loaded room, or empty if it doesn't exist
+     */
+    Optional<Room> findProjectedById(String roomId, Collection<String> fields);
+
+    /**
+     * Reads the room together with one page of the animals placed in it, ordered by {@code (title, _id)}, in
+     * one aggregation; the animals are resolved by a {@code $lookup} on the indexed {@code Animal.roomId}.
+     *
+     * @param roomId the ID of room
+     * @param skip   the number of animals to skip
+     * @param limit  the maximum number of animals
+     * @return the room with the looked up animals, or empty if it doesn't exist
+     */
+    Optional<RoomWithAnimals> findWithAnimalsById(String roomId, long skip, int limit);
+
+    /**
+     * A room with a page of its animals, the animals only have their summary fields loaded.
+     *
+     * @param room    the room
+     * @param animals the looked up animals in order
+     */
+    record RoomWithAnimals(Room room, List<Animal> animals) {
+    }
+}
@@ -0,0 +1,215 @@
+package org.iranshahi.zoochallenge.data.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link RoomRepositoryCustom}.
+ *
+ * <p>
+ * The {@code animalCount} counter is maintained in every occupancy mode, the {@code animalIds} set only
+ * in {@link RoomProperties.OccupancyMode#EMBEDDED} mode, where it also guards against claiming twice.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RequiredArgsConstructor
+public class RoomRepositoryCustomImpl implements RoomRepositoryCustom {
+
+    /**
+     * Same tolerance as the in-memory capacity check, so both placement modes accept the same animals.
+     */
+    private static final double EPSILON = 1e-9;
+
+    private final MongoTemplate mongoTemplate;
+    private final RoomProperties roomProperties;
+
+    @Override
+    public Optional<Room> claimSpace(String roomId, String animalId, Category category, double volume) {
+        var filter = new Document("_id", roomId);
+        if (roomProperties.embedded()) {
+            filter.append("animalIds", new Document("$ne", animalId));
+        }
+        filter.append("allowedCategory", new Document("$in", Arrays.asList(null, category.name())))
+                .append("$expr", new Document("$gte", List.of(
+                        new Document("$subtract", List.of("$capacity", "$usedVolume")),
+                        volume - EPSILON)));
+
+        var update = new Update()
+                .inc("usedVolume", volume)
+                .inc("animalCount", 1)
+                .set("allowedCategory", category)
+                .inc("version", 1)
+                .currentDate("updated");
+        if (roomProperties.embedded()) {
+            update.addToSet("animalIds", animalId);
+        }
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                new BasicQuery(filter), update, FindAndModifyOptions.options().returnNew(true), Room.class));
+    }
+
+    @Override
+    public Optional<Room> releaseSpace(String roomId, String animalId, double volume) {
+        var filter = new Document("_id", roomId);
+        var released = new Document()
+                .append("usedVolume", new Document("$max", List.of(0,
+                        new Document("$subtract", List.of("$usedVolume", volume)))))
+                .append("animalCount", new Document("$max", List.of(0,
+                        new Document("$subtract", List.of("$animalCount", 1)))))
+                .append("version", new Document("$add", List.of("$version", 1)))
+                .append("updated", "$$NOW");
+        Document empty;
+        if (roomProperties.embedded()) {
+            filter.append("animalIds", animalId);
+            released.append("animalIds", new Document("$setDifference", List.of("$animalIds", List.of(animalId))));
+            empty = new Document("$eq", List.of(new Document("$size", "$animalIds"), 0));
+        } else {
+            // the caller has already moved the animal out with a conditional update, the counter is the only guard left
+            filter.append("animalCount", new Document("$gt", 0));
+            empty = new Document("$eq", List.of("$animalCount", 0));
+        }
+
+        AggregationOperation release = context -> new Document("$set", released);
+        AggregationOperation resetCategory = context -> new Document("$set", new Document("allowedCategory",
+                new Document("$cond", Arrays.asList(empty, null, "$allowedCategory"))));
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                new BasicQuery(filter),
+                AggregationUpdate.from(List.of(release, resetCategory)),
+                FindAndModifyOptions.options().returnNew(true),
+                Room.class));
+    }
+
+    @Override
+    public Optional<Room> updateTitle(String roomId, String title) {
+        var update = new Update()
+                .set("title", title)
+                .inc("version", 1)
+                .currentDate("updated");
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query(where("_id").is(roomId)), update, FindAndModifyOptions.options().returnNew(true), Room.class));
+    }
+
+    @Override
+    public Set<String> claimSpaces(Collection<SpaceClaim> claims) {
+        if (claims.isEmpty()) {
+            return Set.of();
+        }
+        var ordered = List.copyOf(claims);
+        var updates = new ArrayList<Pair<Query, Update>>(ordered.size());
+        for (var claim : ordered) {
+            var update = new Update()
+                    .inc("usedVolume", claim.volume())
+                    .inc("animalCount", claim.animalIds().size())
+                    .set("allowedCategory", claim.category())
+                    .inc("version", 1)
+                    .currentDate("updated");
+            if (roomProperties.embedded()) {
+                update.addToSet("animalIds").each(claim.animalIds().toArray());
+            }
+            updates.add(Pair.of(query(where("_id").is(claim.roomId()).and("version").is(claim.expectedVersion())),
+                    update));
+        }
+        return ConditionalBulk.apply(mongoTemplate, Room.class, updates).stream()
+                .map(index -> ordered.get(index).roomId())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public long recountAnimals(boolean dropAnimalIds) {
+        var q = new Query();
+        q.fields().include("_id").include("animalCount").include("version");
+        List<Room> rooms;
+        try (var stream = mongoTemplate.stream(q, Room.class)) {
+            rooms = stream.toList();
+        }
+
+        var counts = new HashMap<String, Long>();
+        var perRoom = Aggregation.newAggregation(
+                Aggregation.match(where("roomId").ne(null)),
+                Aggregation.group("roomId").count().as("count"));
+        mongoTemplate.aggregate(perRoom, Animal.class, Document.class)
+                .forEach(room -> counts.put(room.getString("_id"), ((Number) room.get("count")).longValue()));
+
+        var bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+        boolean stale = false;
+        for (var room : rooms) {
+            long count = counts.getOrDefault(room.getId(), 0L);
+            if (room.getAnimalCount() != count) {
+                bulk.updateOne(query(where("_id").is(room.getId()).and("version").is(room.getVersion())),
+                        new Update()
+                                .set("animalCount", count)
+                                .inc("version", 1)
+                                .currentDate("updated"));
+                stale = true;
+            }
+        }
+        long corrected = stale ? bulk.execute().getModifiedCount() : 0;
+
+        if (dropAnimalIds) {
+            mongoTemplate.updateMulti(query(where("animalIds").exists(true)), new Update()
+                    .unset("animalIds")
+                    .inc("version", 1)
+                    .currentDate("updated"), Room.class);
+        }
+        return corrected;
+    }
+
+    @Override
+    public Optional<Room> findProjectedById(String roomId, Collection<String> fields) {
+        var q = query(where("_id").is(roomId));
+        fields.forEach(q.fields()::include);
+        return Optional.ofNullable(mongoTemplate.findOne(q, Room.class));
+    }
+
+    @Override
+    public Optional<RoomWithAnimals> findWithAnimalsById(String roomId, long skip, int limit) {
+        // localField with a pipeline runs the pipeline on the animals of this room only, sorted on the
+        // (roomId, title, _id) index
+        AggregationOperation lookupAnimals = context -> new Document("$lookup", new Document("from", "animals")
+                .append("localField", "_id")
+                .append("foreignField", "roomId")
+                .append("pipeline", List.of(
+                        new Document("$sort", new Document("title", 1).append("_id", 1)),
+                        new Document("$skip", skip),
+                        new Document("$limit", limit),
+                        new Document("$project", new Document("title", 1)
+                                .append("volume", 1)
+                                .append("category", 1)
+                                .append("located", 1))))
+                .append("as", "expandedAnimals"));
+
+        var aggregation = Aggregation.newAggregation(Aggregation.match(where("_id").is(roomId)), lookupAnimals);
+        var document = mongoTemplate.aggregate(aggregation, Room.class, Document.class).getUniqueMappedResult();
+        if (document == null) {
+            return Optional.empty();
+        }
+        var converter = mongoTemplate.getConverter();
+        var animals = document.getList("expandedAnimals", Document.class, List.of()).stream()
+                .map(animal -> converter.read(Animal.class, animal))
+                .toList();
+        return Optional.of(new RoomWithAnimals(converter.read(Room.class, document), animals));
+    }
+}
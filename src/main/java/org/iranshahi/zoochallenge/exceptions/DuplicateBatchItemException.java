@@ -0,0 +1,13 @@
+package org.iranshahi.zoochallenge.exceptions;
+
+/**
+ * Throws when the same animal appears more than once in a batch placement, only its first item is applied
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class DuplicateBatchItemException extends ZooBusinessException {
+    public DuplicateBatchItemException(String animalId) {
+        super("Animal appears more than once in the batch [animal id:%s]".formatted(animalId), ExceptionCode.DUPLICATE_BATCH_ITEM);
+    }
+}
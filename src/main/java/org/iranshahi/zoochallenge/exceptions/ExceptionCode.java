@@ -14,6 +14,13 @@ public enum ExceptionCode {
     ROOM_IS_FULL,
     CONCURRENT_ERROR,
     ANIMAL_NOT_PLACED,
+    PLACEMENT_COMMAND_NOT_FOUND,
+    DUPLICATE_BATCH_ITEM,
+    NO_ROOM_AVAILABLE,
+    INVALID_CURSOR,
+    INVALID_FIELD,
+    TOO_MANY_IDS,
+    PLACEMENT_QUEUE_FULL,
 
     ;
 }
@@ -0,0 +1,13 @@
+package org.iranshahi.zoochallenge.exceptions;
+
+/**
+ * Throws when a pagination cursor sent by a client can't be decoded, e.g. it was altered or truncated
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class InvalidCursorException extends ZooBusinessException {
+    public InvalidCursorException(String cursor) {
+        super("Cursor is not valid [cursor:%s]".formatted(cursor), ExceptionCode.INVALID_CURSOR);
+    }
+}
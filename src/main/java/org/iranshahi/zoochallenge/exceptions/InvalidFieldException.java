@@ -0,0 +1,13 @@
+package org.iranshahi.zoochallenge.exceptions;
+
+/**
+ * Throws when a client asks for a field which the requested resource doesn't have
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class InvalidFieldException extends ZooBusinessException {
+    public InvalidFieldException(String field) {
+        super("Unknown field [field:%s]".formatted(field), ExceptionCode.INVALID_FIELD);
+    }
+}
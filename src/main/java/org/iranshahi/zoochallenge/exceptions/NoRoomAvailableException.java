@@ -0,0 +1,14 @@
+package org.iranshahi.zoochallenge.exceptions;
+
+/**
+ * Throws when an animal is placed automatically but none of the rooms has enough free
+ * capacity for its volume and category
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class NoRoomAvailableException extends ZooBusinessException {
+    public NoRoomAvailableException(String animalId) {
+        super("No room has enough space for animal [animal id:%s]".formatted(animalId), ExceptionCode.NO_ROOM_AVAILABLE);
+    }
+}
@@ -0,0 +1,14 @@
+package org.iranshahi.zoochallenge.exceptions;
+
+/**
+ * Throws when an asynchronous placement command doesn't exist, or it has been finished
+ * longer than the retention period ago
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class PlacementCommandNotFoundException extends ZooBusinessException {
+    public PlacementCommandNotFoundException(String commandId) {
+        super("Placement command with id %s not found".formatted(commandId), ExceptionCode.PLACEMENT_COMMAND_NOT_FOUND);
+    }
+}
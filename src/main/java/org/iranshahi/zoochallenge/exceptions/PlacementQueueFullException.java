@@ -0,0 +1,18 @@
+package org.iranshahi.zoochallenge.exceptions;
+
+/**
+ * Throws when a placement command is submitted while the mailboxes already hold as many commands as allowed,
+ * answered with 503 and a {@code Retry-After} of {@value #RETRY_AFTER_SECONDS} seconds
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class PlacementQueueFullException extends ZooBusinessException {
+
+    public static final int RETRY_AFTER_SECONDS = 1;
+
+    public PlacementQueueFullException(int maxPending) {
+        super("Too many queued placement commands [max:%d]; please retry later".formatted(maxPending),
+                ExceptionCode.PLACEMENT_QUEUE_FULL);
+    }
+}
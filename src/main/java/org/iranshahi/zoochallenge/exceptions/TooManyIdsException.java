@@ -0,0 +1,13 @@
+package org.iranshahi.zoochallenge.exceptions;
+
+/**
+ * Throws when a client asks for more entities by id than one request may read
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public final class TooManyIdsException extends ZooBusinessException {
+    public TooManyIdsException(int count, int max) {
+        super("Too many ids [count:%d, max:%d]".formatted(count, max), ExceptionCode.TOO_MANY_IDS);
+    }
+}
@@ -27,7 +27,14 @@ public sealed class ZooBusinessException extends RuntimeException
         CategoryMismatchException,
         RoomOutOfSpaceException,
         ConcurrencyException,
-        AnimalNotPlacedException
+        AnimalNotPlacedException,
+        PlacementCommandNotFoundException,
+        DuplicateBatchItemException,
+        NoRoomAvailableException,
+        InvalidCursorException,
+        InvalidFieldException,
+        TooManyIdsException,
+        PlacementQueueFullException
 
 {
 
@@ -0,0 +1,29 @@
+package org.iranshahi.zoochallenge.web.actuator;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.service.impl.PlacementMetrics;
+import org.iranshahi.zoochallenge.business.service.impl.PlacementMetrics.ContentionReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lists the rooms with the most placement conflicts over the sliding window, on
+ * {@code GET /actuator/placementcontention?top=N}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@Component
+@Endpoint(id = "placementcontention")
+@RequiredArgsConstructor
+public class PlacementContentionEndpoint {
+
+    private final PlacementMetrics placementMetrics;
+
+    @ReadOperation
+    public ContentionReport contention(@Nullable Integer top) {
+        return placementMetrics.contention(top);
+    }
+}
@@ -4,10 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
 import org.iranshahi.zoochallenge.business.dto.AnimalFavouriteRoomDto;
 import org.iranshahi.zoochallenge.business.service.AnimalFavouriteRoomManagementService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/animals/{animal-id}/favourites")
 @RequiredArgsConstructor
 public class AnimalFavouriteRestApi {
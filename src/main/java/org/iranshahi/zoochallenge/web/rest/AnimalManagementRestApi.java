@@ -2,20 +2,42 @@ package org.iranshahi.zoochallenge.web.rest;
 
 import lombok.RequiredArgsConstructor;
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.AnimalImportReportDto;
+import org.iranshahi.zoochallenge.business.service.AnimalImportService;
 import org.iranshahi.zoochallenge.business.service.AnimalManagementService;
-import org.springframework.data.domain.Page;
+import org.iranshahi.zoochallenge.business.service.AnimalSortKey;
+import org.iranshahi.zoochallenge.business.service.Expansion;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
+import org.iranshahi.zoochallenge.business.service.ZooExportService;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Instant;
+import java.util.Arrays;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/animals")
 @RequiredArgsConstructor
 public class AnimalManagementRestApi {
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final AnimalManagementService animalService;
+    private final ZooExportService exportService;
+    private final AnimalImportService importService;
 
     @PostMapping
     public ResponseEntity<AnimalDto> create(@RequestBody AnimalDto dto) {
@@ -23,9 +45,55 @@ public class AnimalManagementRestApi {
         return ResponseEntity.created(URI.create("/api/animals/" + created.id())).body(created);
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<AnimalImportReportDto> importAnimals(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        var format = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? AnimalImportService.Format.NDJSON
+                : AnimalImportService.Format.CSV;
+        return ResponseEntity.ok(importService.importAnimals(body, format));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "category", required = false) Category category,
+            @RequestParam(name = "roomId", required = false) String roomId,
+            @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return NdjsonResponses.stream(acceptEncoding,
+                out -> exportService.exportAnimals(category, roomId, updatedSince, out));
+    }
+
+    /**
+     * {@code expand=room,favourites} embeds summaries of the related rooms, the ETag of an expanded animal
+     * is hashed from its version and the summaries since it changes with the rooms as well.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<AnimalDto> get(@PathVariable String id) {
-        return ResponseEntity.ok().body(animalService.get(id));
+    public ResponseEntity<MappingJacksonValue> get(@PathVariable String id,
+                                                   @RequestParam(name = "fields", required = false) String fields,
+                                                   @RequestParam(name = "expand", required = false) String expand,
+                                                   WebRequest request) {
+        var selection = FieldSelection.parse(fields, AnimalDto.class);
+        var expansion = Expansion.parse(expand, Expansion.ROOM, Expansion.FAVOURITES);
+        if (!expansion.isNone()) {
+            var expanded = animalService.getExpanded(id, expansion);
+            var etag = ETags.of(id, expanded.animal().version(), selection, expansion,
+                    Arrays.asList(expanded.room(), expanded.favouriteRooms()));
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).body(SparseFields.filter(expanded, selection));
+        }
+        // the version lookup only saves loading the document when the client can be answered with a 304
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.of(id, animalService.getVersion(id), selection))) {
+            return null;
+        }
+        var animal = animalService.get(id, selection);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(id, animal.version(), selection))
+                .body(SparseFields.filter(animal, selection));
     }
 
     @PutMapping("/{id}")
@@ -40,16 +108,33 @@ public class AnimalManagementRestApi {
     }
 
     @GetMapping("/by-room/{id}")
-    public ResponseEntity<Page<AnimalDto>> animalsInRoom(
+    public ResponseEntity<MappingJacksonValue> animalsInRoom(
             @PathVariable(name = "id") String roomId,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
             @RequestParam(name = "sort", defaultValue = "title") String sort,
-            @RequestParam(name = "order", defaultValue = "desc") String order) {
+            @RequestParam(name = "order", defaultValue = "desc") String order,
+            @RequestParam(name = "fields", required = false) String fields) {
 
+        var selection = FieldSelection.parse(fields, AnimalDto.class);
         var dir = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
         var pageable = PageRequest.of(page, size, Sort.by(dir, sort));
-        var response = animalService.getAnimalsInRoom(roomId, pageable);
-        return ResponseEntity.ok(response);
+        var response = animalService.getAnimalsInRoom(roomId, pageable, selection);
+        return ResponseEntity.ok(SparseFields.filter(response, selection));
+    }
+
+    @GetMapping("/by-room/{id}/slice")
+    public ResponseEntity<MappingJacksonValue> animalsInRoomSlice(
+            @PathVariable(name = "id") String roomId,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "sort", defaultValue = "title") String sort,
+            @RequestParam(name = "order", defaultValue = "desc") String order,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "fields", required = false) String fields) {
+
+        var selection = FieldSelection.parse(fields, AnimalDto.class);
+        var dir = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        var response = animalService.getAnimalsInRoom(roomId, AnimalSortKey.of(sort), dir, size, cursor, selection);
+        return ResponseEntity.ok(SparseFields.filter(response, selection));
     }
 }
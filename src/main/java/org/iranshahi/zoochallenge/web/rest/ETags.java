@@ -0,0 +1,59 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import org.iranshahi.zoochallenge.business.service.Expansion;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.TreeSet;
+
+/**
+ * Builds strong ETags for conditional GETs.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * @return an ETag which changes with every write of the entity, since each write increments its version
+     */
+    static String of(String id, Long version) {
+        return "\"" + id + "-" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * @return an ETag of a sparse representation of the entity, which differs from that of other fieldsets
+     */
+    static String of(String id, Long version, FieldSelection fields) {
+        if (fields.isAll()) {
+            return of(id, version);
+        }
+        var selected = String.join(",", new TreeSet<>(fields.names()));
+        return "\"" + id + "-" + (version == null ? 0 : version) + "-"
+                + DigestUtils.md5DigestAsHex(selected.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * The related summaries only hold scalars and are listed in a stable order, so their string form is hashed
+     * along with the version of the entity and the sorted names of the selected fields and relations.
+     *
+     * @param related the embedded summaries of the related entities
+     * @return an ETag of an entity with its relations embedded, which also changes with the related entities
+     */
+    static String of(String id, Long version, FieldSelection fields, Expansion expansion, Object related) {
+        var canonical = of(id, version, fields) + "|" + String.join(",", new TreeSet<>(expansion.names()))
+                + "|" + related;
+        return "\"" + DigestUtils.md5DigestAsHex(canonical.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * @return an ETag of a derived resource without a version, hashed from its content
+     */
+    static String ofContent(Object content) {
+        return "\"" + DigestUtils.md5DigestAsHex(String.valueOf(content).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,61 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.IdsDto;
+import org.iranshahi.zoochallenge.business.dto.MultiGetResultDto;
+import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.business.service.AnimalManagementService;
+import org.iranshahi.zoochallenge.business.service.RoomManagementService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Reads many animals or rooms with one request and one {@code $in} query, e.g. the favourite rooms of an
+ * animal or the animals of a room. Items keep the order of the requested ids, ids which don't exist are
+ * listed in {@code missingIds} instead of failing the request.
+ *
+ * <p>
+ * {@code GET} takes comma separated {@code ids}, {@code :batchGet} takes them in the body for lists which
+ * don't fit in a URL.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class MultiGetRestApi {
+
+    private final AnimalManagementService animalService;
+    private final RoomManagementService roomService;
+
+    @GetMapping(value = "/api/animals", params = "ids")
+    public ResponseEntity<MultiGetResultDto<AnimalDto>> getAnimals(@RequestParam("ids") List<String> ids) {
+        return ResponseEntity.ok(animalService.getAll(ids));
+    }
+
+    @PostMapping("/api/animals:batchGet")
+    public ResponseEntity<MultiGetResultDto<AnimalDto>> batchGetAnimals(@Valid @RequestBody IdsDto body) {
+        return ResponseEntity.ok(animalService.getAll(body.ids()));
+    }
+
+    @GetMapping(value = "/api/rooms", params = "ids")
+    public ResponseEntity<MultiGetResultDto<RoomDto>> getRooms(@RequestParam("ids") List<String> ids) {
+        return ResponseEntity.ok(roomService.getAll(ids));
+    }
+
+    @PostMapping("/api/rooms:batchGet")
+    public ResponseEntity<MultiGetResultDto<RoomDto>> batchGetRooms(@Valid @RequestBody IdsDto body) {
+        return ResponseEntity.ok(roomService.getAll(body.ids()));
+    }
+}
@@ -0,0 +1,38 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds streamed NDJSON responses, gzip compressed when the client accepts it.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+final class NdjsonResponses {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private NdjsonResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> stream(String acceptEncoding, StreamingResponseBody body) {
+        var response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+            return response.body(body);
+        }
+        return response
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    try (var gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                        body.writeTo(gzip);
+                    }
+                });
+    }
+}
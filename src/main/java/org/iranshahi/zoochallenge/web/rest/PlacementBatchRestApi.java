@@ -0,0 +1,40 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementDto;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementResultDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementOptimizationReportDto;
+import org.iranshahi.zoochallenge.business.service.PlacementOptimizationService;
+import org.iranshahi.zoochallenge.business.service.PlacementService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Places many animals with one request, the per-item outcome is reported in the response body.
+ * {@code :optimize} packs all unplaced animals into the rooms with spare capacity.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PlacementBatchRestApi {
+
+    private final PlacementService placementService;
+    private final PlacementOptimizationService placementOptimizationService;
+
+    @PostMapping("/api/placements:batch")
+    public ResponseEntity<BatchPlacementResultDto> placeAll(@Valid @RequestBody BatchPlacementDto batch) {
+        return ResponseEntity.ok(placementService.placeAll(batch.items()));
+    }
+
+    @PostMapping("/api/placements:optimize")
+    public ResponseEntity<PlacementOptimizationReportDto> optimize() {
+        return ResponseEntity.ok(placementOptimizationService.placeUnplacedAnimals());
+    }
+}
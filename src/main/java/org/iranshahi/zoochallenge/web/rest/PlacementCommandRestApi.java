@@ -0,0 +1,42 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto;
+import org.iranshahi.zoochallenge.business.service.PlacementService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Exposes the status of placement commands which were accepted asynchronously.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/placements")
+@RequiredArgsConstructor
+public class PlacementCommandRestApi {
+    private static final long MAX_WAIT_SECONDS = 30;
+
+    private final PlacementService placementService;
+
+    /**
+     * polls a command, or waits up to {@code wait} seconds for it to finish without holding a worker thread
+     */
+    @GetMapping("/commands/{id}")
+    public CompletableFuture<ResponseEntity<PlacementCommandDto>> command(
+            @PathVariable String id,
+            @RequestParam(name = "wait", defaultValue = "0") long wait) {
+
+        if (wait <= 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(placementService.getCommand(id)));
+        }
+        var timeout = Duration.ofSeconds(Math.min(wait, MAX_WAIT_SECONDS));
+        return placementService.awaitCommand(id, timeout).thenApply(ResponseEntity::ok);
+    }
+}
@@ -1,26 +1,103 @@
 package org.iranshahi.zoochallenge.web.rest;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.MoveDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto;
 import org.iranshahi.zoochallenge.business.dto.PlacementDto;
 import org.iranshahi.zoochallenge.business.service.PlacementService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Places animals in rooms and removes them.
+ *
+ * <p>
+ * Without a {@code roomId} the animal is placed in the best-fitting room of its category.
+ * Sending {@code Prefer: respond-async} queues the command on the mailbox of the room and answers
+ * {@code 202 Accepted} with a status resource, which can be polled on {@link PlacementCommandRestApi}.
+ * The preference may be listed with others, e.g. {@code Prefer: respond-async, wait=10}; requests preferring
+ * something else are answered synchronously.
+ * {@code POST /move} moves a placed animal to another room with a single request.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 9 Oct 2025
+ */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/animals/{animal-id}/placement")
 @RequiredArgsConstructor
 public class PlacementRestApi {
+    private static final String PREFER = "Prefer";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final PlacementService animalPlacementService;
 
     @PatchMapping
-    public ResponseEntity<AnimalDto> place(@PathVariable("animal-id") String id, @RequestBody PlacementDto placementDto) {
-        return ResponseEntity.ok(animalPlacementService.place(id, placementDto.roomId()));
+    public ResponseEntity<AnimalDto> place(@PathVariable("animal-id") String id,
+                                           @RequestBody(required = false) PlacementDto placementDto) {
+        var roomId = roomIdOf(placementDto);
+        if (roomId == null) {
+            return ResponseEntity.ok(animalPlacementService.autoPlace(id));
+        }
+        return ResponseEntity.ok(animalPlacementService.place(id, roomId));
     }
 
+    @PatchMapping(headers = PREFER)
+    public ResponseEntity<?> placeAsync(@PathVariable("animal-id") String id,
+                                        @RequestHeader(PREFER) List<String> preferences,
+                                        @RequestBody(required = false) PlacementDto placementDto) {
+        if (!respondAsync(preferences)) {
+            return place(id, placementDto);
+        }
+        return accepted(animalPlacementService.submitPlace(id, roomIdOf(placementDto)));
+    }
+
+    @PostMapping("/move")
+    public ResponseEntity<AnimalDto> move(@PathVariable("animal-id") String id,
+                                          @Valid @RequestBody MoveDto moveDto) {
+        return ResponseEntity.ok(animalPlacementService.move(id, moveDto.roomId()));
+    }
 
     @DeleteMapping
     public ResponseEntity<AnimalDto> removeFromRoom(@PathVariable("animal-id") String id) {
         return ResponseEntity.ok(animalPlacementService.remove(id));
     }
+
+    @DeleteMapping(headers = PREFER)
+    public ResponseEntity<?> removeFromRoomAsync(@PathVariable("animal-id") String id,
+                                                 @RequestHeader(PREFER) List<String> preferences) {
+        if (!respondAsync(preferences)) {
+            return removeFromRoom(id);
+        }
+        return accepted(animalPlacementService.submitRemove(id));
+    }
+
+    /**
+     * @param preferences the values of {@code Prefer} headers, each a comma separated list of preferences
+     * @return whether {@code respond-async} is one of the preferences, names are case-insensitive (RFC 7240)
+     */
+    static boolean respondAsync(List<String> preferences) {
+        return preferences.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(preference -> preference.split("[;=]", 2)[0].trim())
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    private static String roomIdOf(PlacementDto placementDto) {
+        return placementDto == null ? null : placementDto.roomId();
+    }
+
+    private ResponseEntity<PlacementCommandDto> accepted(PlacementCommandDto command) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/placements/commands/" + command.id()))
+                .body(command);
+    }
 }
@@ -0,0 +1,81 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.service.ReactiveAnimalManagementService;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * {@code /api/animals} of the {@code reactive} profile, see {@link AnimalManagementRestApi}.
+ *
+ * <p>
+ * The export is written element by element as it is read from Mongo, without holding a thread meanwhile.
+ * Sparse fieldsets, ETags, slices and imports are only served by the servlet stack.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RestController
+@RequestMapping("/api/animals")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveAnimalManagementRestApi {
+
+    private final ReactiveAnimalManagementService animalService;
+
+    @PostMapping
+    public Mono<ResponseEntity<AnimalDto>> create(@RequestBody AnimalDto dto) {
+        return animalService.create(dto)
+                .map(created -> ResponseEntity.created(URI.create("/api/animals/" + created.id())).body(created));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AnimalDto> export(
+            @RequestParam(name = "category", required = false) Category category,
+            @RequestParam(name = "roomId", required = false) String roomId,
+            @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince) {
+        return animalService.export(category, roomId, updatedSince);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<AnimalDto> get(@PathVariable String id) {
+        return animalService.get(id);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<AnimalDto> update(@PathVariable String id, @RequestBody AnimalDto dto) {
+        return animalService.update(id, dto);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable String id) {
+        return animalService.delete(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    @GetMapping("/by-room/{id}")
+    public Mono<Page<AnimalDto>> animalsInRoom(
+            @PathVariable(name = "id") String roomId,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "sort", defaultValue = "title") String sort,
+            @RequestParam(name = "order", defaultValue = "desc") String order) {
+
+        var dir = "desc".equalsIgnoreCase(order) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return animalService.getAnimalsInRoom(roomId, PageRequest.of(page, size, Sort.by(dir, sort)));
+    }
+}
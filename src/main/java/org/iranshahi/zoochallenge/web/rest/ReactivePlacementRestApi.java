@@ -0,0 +1,42 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.AnimalDto;
+import org.iranshahi.zoochallenge.business.dto.PlacementDto;
+import org.iranshahi.zoochallenge.business.service.ReactivePlacementService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Places animals in rooms and removes them, in the {@code reactive} profile; see {@link PlacementRestApi}.
+ *
+ * <p>
+ * A waiting placement doesn't hold a thread here, so {@code Prefer: respond-async} mailboxes aren't offered.
+ * </p>
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RestController
+@RequestMapping("/api/animals/{animal-id}/placement")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactivePlacementRestApi {
+
+    private final ReactivePlacementService placementService;
+
+    @PatchMapping
+    public Mono<AnimalDto> place(@PathVariable("animal-id") String id,
+                                 @RequestBody(required = false) PlacementDto placementDto) {
+        if (placementDto == null || placementDto.roomId() == null) {
+            return placementService.autoPlace(id);
+        }
+        return placementService.place(id, placementDto.roomId());
+    }
+
+    @DeleteMapping
+    public Mono<AnimalDto> removeFromRoom(@PathVariable("animal-id") String id) {
+        return placementService.remove(id);
+    }
+}
@@ -0,0 +1,67 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.iranshahi.zoochallenge.business.dto.FavouriteRoomDto;
+import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.business.service.ReactiveRoomManagementService;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * {@code /api/rooms} of the {@code reactive} profile, see {@link RoomManagementRestApi}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+@RestController
+@RequestMapping("/api/rooms")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveRoomManagementRestApi {
+
+    private final ReactiveRoomManagementService roomService;
+
+    @PostMapping
+    public Mono<ResponseEntity<RoomDto>> create(@Valid @RequestBody RoomDto roomDto) {
+        return roomService.create(roomDto)
+                .map(created -> ResponseEntity.created(URI.create("/api/rooms/" + created.id())).body(created));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RoomDto> export(
+            @RequestParam(name = "category", required = false) Category category,
+            @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince) {
+        return roomService.export(category, updatedSince);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<RoomDto> get(@PathVariable String id) {
+        return roomService.get(id);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<RoomDto> update(@PathVariable String id, @RequestBody RoomDto roomDto) {
+        return roomService.update(id, roomDto);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable String id) {
+        return roomService.delete(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    @GetMapping("/favourites")
+    public Flux<FavouriteRoomDto> favourites() {
+        return roomService.favourites();
+    }
+}
@@ -3,13 +3,26 @@ package org.iranshahi.zoochallenge.web.rest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.iranshahi.zoochallenge.business.dto.FavouriteRoomDto;
+import org.iranshahi.zoochallenge.business.dto.FavouriteRoomPageDto;
 import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.business.service.Expansion;
 import org.iranshahi.zoochallenge.business.service.FavouriteRoomReportingService;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
 import org.iranshahi.zoochallenge.business.service.RoomManagementService;
+import org.iranshahi.zoochallenge.business.service.ZooExportService;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -19,11 +32,13 @@ import java.util.List;
  *
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/rooms")
 @RequiredArgsConstructor
 public class RoomManagementRestApi {
     private final RoomManagementService roomService;
     private final FavouriteRoomReportingService reportingService;
+    private final ZooExportService exportService;
 
 
     @PostMapping
@@ -32,10 +47,45 @@ public class RoomManagementRestApi {
         return ResponseEntity.created(URI.create("/api/rooms/" + created.id())).body(created);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "category", required = false) Category category,
+            @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant updatedSince,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return NdjsonResponses.stream(acceptEncoding,
+                out -> exportService.exportRooms(category, updatedSince, out));
+    }
+
+    /**
+     * {@code expand=animals} embeds one page of summaries of the animals in the room, paged with
+     * {@code animalsPage} and {@code animalsSize}; the ETag of an expanded room is hashed from its version and the page.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<RoomDto> get(@PathVariable String id) {
-        var room = roomService.get(id);
-        return ResponseEntity.ok().body(room);
+    public ResponseEntity<MappingJacksonValue> get(@PathVariable String id,
+                                                   @RequestParam(name = "fields", required = false) String fields,
+                                                   @RequestParam(name = "expand", required = false) String expand,
+                                                   @RequestParam(name = "animalsPage", defaultValue = "0") int animalsPage,
+                                                   @RequestParam(name = "animalsSize", defaultValue = "20") int animalsSize,
+                                                   WebRequest request) {
+        var selection = FieldSelection.parse(fields, RoomDto.class);
+        var expansion = Expansion.parse(expand, Expansion.ANIMALS);
+        if (!expansion.isNone()) {
+            var expanded = roomService.getExpanded(id, expansion, animalsPage, animalsSize);
+            var etag = ETags.of(id, expanded.room().version(), selection, expansion, expanded.animals());
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).body(SparseFields.filter(expanded, selection));
+        }
+        // the version lookup only saves loading the document when the client can be answered with a 304
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.of(id, roomService.getVersion(id), selection))) {
+            return null;
+        }
+        var room = roomService.get(id, selection);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(id, room.version(), selection))
+                .body(SparseFields.filter(room, selection));
     }
 
     @PutMapping("/{id}")
@@ -51,8 +101,25 @@ public class RoomManagementRestApi {
     }
 
     @GetMapping("/favourites")
-    public ResponseEntity<List<FavouriteRoomDto>> favourites() {
-        return ResponseEntity.ok(reportingService.listFavouriteRooms());
+    public ResponseEntity<List<FavouriteRoomDto>> favourites(WebRequest request) {
+        var favourites = reportingService.listFavouriteRooms();
+        var etag = ETags.ofContent(favourites);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(favourites);
+    }
+
+    @GetMapping("/favourites/top")
+    public ResponseEntity<FavouriteRoomPageDto> topFavourites(@RequestParam(defaultValue = "20") int limit,
+                                                              @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(reportingService.leaderboard(limit, cursor));
+    }
+
+    @PostMapping("/favourites/rebuild")
+    public ResponseEntity<Void> rebuildFavourites() {
+        reportingService.rebuild();
+        return ResponseEntity.noContent().build();
     }
 
 }
@@ -0,0 +1,27 @@
+package org.iranshahi.zoochallenge.web.rest;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * Applies a sparse fieldset to a response body, leaving the unselected fields of its DTOs out.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    static MappingJacksonValue filter(Object body, FieldSelection fields) {
+        var filter = fields.isAll()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields.names());
+        var value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(FieldSelection.FILTER, filter));
+        return value;
+    }
+}
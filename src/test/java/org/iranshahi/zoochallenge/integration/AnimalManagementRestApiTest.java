@@ -1,5 +1,6 @@
 package org.iranshahi.zoochallenge.integration;
 
+import com.jayway.jsonpath.JsonPath;
 import org.iranshahi.zoochallenge.config.AbstractIntegrationTest;
 import org.iranshahi.zoochallenge.data.model.Animal;
 import org.iranshahi.zoochallenge.data.model.Category;
@@ -11,12 +12,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -61,4 +79,244 @@ public class AnimalManagementRestApiTest extends AbstractIntegrationTest {
                 .andExpect(jsonPath("$.content[0].title").value("Lion"))
                 .andExpect(jsonPath("$.content[0].roomId").value(room.getId()));
     }
+
+    @Test
+    void get_sparse_list_of_animals() throws Exception {
+        var room = roomRepository.save(Room.builder().title("Jungle").capacity(50.0).allowedCategory(Category.WILD).build());
+        animalRepository.save(Animal.builder()
+                .title("Lion")
+                .roomId(room.getId())
+                .volume(10.0)
+                .category(Category.WILD)
+                .located(LocalDate.now())
+                .favouriteRoomIds(Set.of(room.getId()))
+                .build());
+
+        mockMvc.perform(get("/api/animals/by-room/{roomId}", room.getId()).param("fields", "id,title,volume"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].title").value("Lion"))
+                .andExpect(jsonPath("$.content[0].volume").value(10.0))
+                .andExpect(jsonPath("$.content[0].favouriteRoomIds").doesNotExist())
+                .andExpect(jsonPath("$.content[0].located").doesNotExist());
+    }
+
+    @Test
+    void get_sparse_animal_with_unknown_field() throws Exception {
+        var animal = animalRepository.save(Animal.builder().title("Lion").volume(10.0).build());
+
+        mockMvc.perform(get("/api/animals/{id}", animal.getId()).param("fields", "title,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_FIELD"));
+
+        mockMvc.perform(get("/api/animals/{id}", animal.getId()).param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Lion"))
+                .andExpect(jsonPath("$.volume").doesNotExist());
+    }
+
+    @Test
+    void get_animal_with_expanded_rooms() throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").capacity(50.0).allowedCategory(Category.WILD).build());
+        var savanna = roomRepository.save(Room.builder().title("Savanna").capacity(80.0).build());
+        var lion = animalRepository.save(Animal.builder()
+                .title("Lion")
+                .roomId(jungle.getId())
+                .volume(10.0)
+                .category(Category.WILD)
+                .favouriteRoomIds(Set.of(savanna.getId(), jungle.getId(), "deleted-room"))
+                .build());
+
+        mockMvc.perform(get("/api/animals/{id}", lion.getId()).param("expand", "room,favourites"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.title").value("Lion"))
+                .andExpect(jsonPath("$.roomId").value(jungle.getId()))
+                .andExpect(jsonPath("$.room.title").value("Jungle"))
+                .andExpect(jsonPath("$.room.allowedCategory").value("WILD"))
+                .andExpect(jsonPath("$.favouriteRooms.length()").value(2))
+                .andExpect(jsonPath("$.favouriteRooms[0].title").value("Jungle"))
+                .andExpect(jsonPath("$.favouriteRooms[1].title").value("Savanna"));
+
+        mockMvc.perform(get("/api/animals/{id}", lion.getId()).param("expand", "room").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Lion"))
+                .andExpect(jsonPath("$.volume").doesNotExist())
+                .andExpect(jsonPath("$.room.title").value("Jungle"))
+                .andExpect(jsonPath("$.favouriteRooms").doesNotExist());
+
+        mockMvc.perform(get("/api/animals/{id}", lion.getId()).param("expand", "animals"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_FIELD"));
+    }
+
+    @Test
+    void expanded_animal_etag_is_stable_and_changes_with_its_rooms() throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").capacity(50.0).build());
+        var lion = animalRepository.save(Animal.builder()
+                .title("Lion")
+                .roomId(jungle.getId())
+                .volume(10.0)
+                .favouriteRoomIds(Set.of(jungle.getId(), "deleted-room"))
+                .build());
+
+        var etag = mockMvc.perform(get("/api/animals/{id}", lion.getId())
+                        .param("expand", "room,favourites").param("fields", "title,volume,roomId"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/animals/{id}", lion.getId())
+                        .param("expand", "favourites,room").param("fields", "roomId,volume,title")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        jungle.setTitle("Rainforest");
+        roomRepository.save(jungle);
+
+        mockMvc.perform(get("/api/animals/{id}", lion.getId())
+                        .param("expand", "room,favourites").param("fields", "title,volume,roomId")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.room.title").value("Rainforest"));
+    }
+
+    @Test
+    void get_animals_by_ids_in_request_order() throws Exception {
+        var lion = animalRepository.save(Animal.builder().title("Lion").volume(10.0).build());
+        var tiger = animalRepository.save(Animal.builder().title("Tiger").volume(12.0).build());
+
+        mockMvc.perform(get("/api/animals").param("ids", tiger.getId(), "unknown", lion.getId(), tiger.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Tiger"))
+                .andExpect(jsonPath("$.items[1].title").value("Lion"))
+                .andExpect(jsonPath("$.missingIds[0]").value("unknown"));
+
+        var tooMany = new ArrayList<String>();
+        for (int i = 0; i <= 1000; i++) {
+            tooMany.add("id" + i);
+        }
+        mockMvc.perform(get("/api/animals").param("ids", tooMany.toArray(String[]::new)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("TOO_MANY_IDS"));
+    }
+
+    @Test
+    void scroll_animals_of_room_by_cursor() throws Exception {
+        var room = roomRepository.save(Room.builder().title("Jungle").capacity(50.0).allowedCategory(Category.WILD).build());
+        for (var title : new String[]{"Lion", "Tiger", "Bear", "Lion", null}) {
+            animalRepository.save(Animal.builder().title(title).roomId(room.getId()).volume(1.0).build());
+        }
+        var other = animalRepository.save(Animal.builder().title("Zebra").roomId("elsewhere").volume(1.0).build());
+
+        var seen = new ArrayList<String>();
+        String cursor = null;
+        do {
+            var request = get("/api/animals/by-room/{roomId}/slice", room.getId())
+                    .param("size", "2")
+                    .param("sort", "title")
+                    .param("order", "asc");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            var body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            seen.addAll(JsonPath.read(body, "$.content[*].id"));
+            cursor = JsonPath.read(body, "$.nextCursor");
+        } while (cursor != null);
+
+        assertEquals(5, seen.size());
+        assertEquals(5, new HashSet<>(seen).size());
+        assertFalse(seen.contains(other.getId()));
+    }
+
+    @Test
+    void scroll_animals_of_room_by_unknown_sort_field() throws Exception {
+        mockMvc.perform(get("/api/animals/by-room/{roomId}/slice", "r1").param("sort", "category"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_FIELD"));
+    }
+
+    @Test
+    void export_animals_as_ndjson() throws Exception {
+        animalRepository.save(Animal.builder().title("Lion").volume(10.0).category(Category.WILD).build());
+        animalRepository.save(Animal.builder().title("Dog").volume(2.0).category(Category.DOMESTIC).build());
+        animalRepository.save(Animal.builder().title("Tiger").volume(9.0).category(Category.WILD).build());
+
+        var started = mockMvc.perform(get("/api/animals/export").param("category", "WILD"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        var lines = body.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals(List.of("Lion", "Tiger"), lines.stream().map(line -> JsonPath.<String>read(line, "$.title")).sorted().toList());
+    }
+
+    @Test
+    void export_animals_gzipped() throws Exception {
+        animalRepository.save(Animal.builder().title("Lion").volume(10.0).category(Category.WILD).build());
+
+        var started = mockMvc.perform(get("/api/animals/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var bytes = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (var gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            var line = new String(gzip.readAllBytes(), StandardCharsets.UTF_8).strip();
+            assertEquals("Lion", JsonPath.read(line, "$.title"));
+        }
+    }
+
+    @Test
+    void import_animals_from_ndjson() throws Exception {
+        var upload = """
+                {"title": "Lion", "volume": 10, "category": "WILD", "located": "2025-10-01"}
+                {"title": "X", "volume": 0, "category": "WILD", "located": "2025-10-01"}
+
+                {"title": "Dog", "volume": 2, "category": "DOMESTIC", "located": "2025-10-02", "roomId": "r1"}
+                {"title": "Cat",
+                """;
+
+        mockMvc.perform(post("/api/animals/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(upload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.records").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[1].line").value(5));
+
+        var dog = animalRepository.findAll().stream().filter(animal -> "Dog".equals(animal.getTitle())).findFirst().orElseThrow();
+        assertNull(dog.getRoomId());
+        assertEquals(0L, dog.getVersion());
+    }
+
+    @Test
+    void import_animals_from_csv() throws Exception {
+        var upload = """
+                title,volume,category,located
+                Lion,10,WILD,2025-10-01
+                "Tiger, the Second",9,wild,2025-10-02
+                Bear,heavy,WILD,2025-10-03
+                """;
+
+        mockMvc.perform(post("/api/animals/import")
+                        .contentType("text/csv")
+                        .content(upload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(4));
+
+        assertEquals(2, animalRepository.count());
+    }
 }
@@ -1,13 +1,17 @@
 package org.iranshahi.zoochallenge.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementDto;
+import org.iranshahi.zoochallenge.business.dto.MoveDto;
 import org.iranshahi.zoochallenge.business.dto.PlacementDto;
+import org.iranshahi.zoochallenge.business.dto.RoomDto;
 import org.iranshahi.zoochallenge.config.AbstractIntegrationTest;
 import org.iranshahi.zoochallenge.data.model.Animal;
 import org.iranshahi.zoochallenge.data.model.Category;
 import org.iranshahi.zoochallenge.data.model.Room;
 import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
 import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.iranshahi.zoochallenge.data.repository.RoomRepositoryCustom.SpaceClaim;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,13 +22,19 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -198,4 +208,209 @@ public class PlacementRestApiTest extends AbstractIntegrationTest {
             assertThat(placedAnimals.size()).isLessThanOrEqualTo(3);
         }
     }
+
+
+    @Test
+    public void place_animals_in_batch() throws Exception {
+        var batchRoom = new Room();
+        batchRoom.setTitle("Batch Room");
+        batchRoom.setCapacity(25.0);
+        var savedRoom = roomRepository.save(batchRoom);
+
+        var items = new ArrayList<BatchPlacementDto.Item>();
+        for (int i = 0; i < 3; i++) {
+            var animal = animalRepository.save(Animal.builder()
+                    .title("Cat-" + i)
+                    .category(Category.DOMESTIC)
+                    .volume(10.0)
+                    .build());
+            items.add(new BatchPlacementDto.Item(animal.getId(), savedRoom.getId()));
+        }
+        String body = objectMapper.writeValueAsString(new BatchPlacementDto(items));
+
+        mockMvc.perform(post("/api/placements:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.placed").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[2].errorCode").value("ROOM_IS_FULL"));
+
+        Room updatedRoom = roomRepository.findById(savedRoom.getId()).orElseThrow();
+        assertThat(updatedRoom.getUsedVolume()).isEqualTo(20.0);
+        assertThat(updatedRoom.getAnimalIds().size()).isEqualTo(2);
+        assertThat(updatedRoom.getAllowedCategory()).isEqualTo(Category.DOMESTIC);
+        assertThat(animalRepository.findById(items.get(2).animalId()).orElseThrow().getRoomId()).isNull();
+    }
+
+    @Test
+    public void place_animal_in_best_fitting_room() throws Exception {
+        for (var capacity : List.of(100.0, 15.0, 5.0)) {
+            var roomDto = new RoomDto(null, "Room-" + capacity.intValue(), capacity, 0.0, null, 0, Category.DOMESTIC, null);
+            mockMvc.perform(post("/api/rooms")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(roomDto)))
+                    .andExpect(status().isCreated());
+        }
+        var animal = animalRepository.save(Animal.builder()
+                .title("Goat")
+                .category(Category.DOMESTIC)
+                .volume(10.0)
+                .build());
+
+        mockMvc.perform(patch("/api/animals/{id}/placement", animal.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isOk());
+
+        var placed = animalRepository.findById(animal.getId()).orElseThrow();
+        var room = roomRepository.findById(placed.getRoomId()).orElseThrow();
+        assertThat(room.getTitle()).isEqualTo("Room-15");
+        assertThat(room.getUsedVolume()).isEqualTo(10.0);
+    }
+
+    @Test
+    public void prefer_respond_async_among_other_preferences() throws Exception {
+        var room = roomRepository.save(Room.builder().title("Room-A").capacity(50.0).build());
+        var dog = animalRepository.save(Animal.builder().title("Dog").category(Category.DOMESTIC).volume(10.0).build());
+        var cat = animalRepository.save(Animal.builder().title("Cat").category(Category.DOMESTIC).volume(5.0).build());
+        var body = objectMapper.writeValueAsString(new PlacementDto(room.getId()));
+
+        mockMvc.perform(patch("/api/animals/{id}/placement", dog.getId())
+                        .header("Prefer", "Respond-Async, wait=10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"));
+
+        mockMvc.perform(patch("/api/animals/{id}/placement", cat.getId())
+                        .header("Prefer", "return=minimal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomId").value(room.getId()));
+    }
+
+    @Test
+    public void move_animal_between_rooms() throws Exception {
+        var source = new Room();
+        source.setTitle("Source");
+        source.setCapacity(20.0);
+        source = roomRepository.save(source);
+        var target = new Room();
+        target.setTitle("Target");
+        target.setCapacity(20.0);
+        target = roomRepository.save(target);
+        var animal = animalRepository.save(Animal.builder()
+                .title("Sheep")
+                .category(Category.DOMESTIC)
+                .volume(10.0)
+                .build());
+
+        mockMvc.perform(patch("/api/animals/{id}/placement", animal.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new PlacementDto(source.getId()))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/animals/{id}/placement/move", animal.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MoveDto(target.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomId").value(target.getId()));
+
+        var releasedRoom = roomRepository.findById(source.getId()).orElseThrow();
+        assertThat(releasedRoom.getUsedVolume()).isEqualTo(0.0);
+        assertThat(releasedRoom.getAnimalIds().isEmpty()).isTrue();
+        assertThat(releasedRoom.getAllowedCategory()).isNull();
+
+        var claimedRoom = roomRepository.findById(target.getId()).orElseThrow();
+        assertThat(claimedRoom.getUsedVolume()).isEqualTo(10.0);
+        assertThat(claimedRoom.getAnimalIds().contains(animal.getId())).isTrue();
+        assertThat(animalRepository.findById(animal.getId()).orElseThrow().getRoomId()).isEqualTo(target.getId());
+    }
+
+    @Test
+    public void batch_writes_report_only_the_updates_which_applied() throws Exception {
+        var room = roomRepository.save(Room.builder().title("Jungle").capacity(50.0).build());
+        var stale = roomRepository.save(Room.builder().title("Desert").capacity(50.0).build());
+        var claims = List.of(
+                new SpaceClaim(room.getId(), room.getVersion(), Category.WILD, 10.0, List.of("lion")),
+                new SpaceClaim(stale.getId(), stale.getVersion() + 1, Category.WILD, 10.0, List.of("tiger")),
+                new SpaceClaim("deleted-room", 0L, Category.WILD, 10.0, List.of("bear")));
+
+        assertThat(roomRepository.claimSpaces(claims)).isEqualTo(Set.of(room.getId()));
+        assertThat(roomRepository.findById(stale.getId()).orElseThrow().getUsedVolume()).isEqualTo(0.0);
+        assertThat(roomRepository.existsById("deleted-room")).isFalse();
+
+        var free = animalRepository.save(Animal.builder().title("Lion").volume(10.0).build());
+        var placed = animalRepository.save(Animal.builder().title("Tiger").volume(10.0).roomId(room.getId()).build());
+
+        // the tiger was already placed in the same room, e.g. by a concurrent single placement
+        assertThat(animalRepository.assignRooms(Map.of(
+                free.getId(), room.getId(),
+                placed.getId(), room.getId(),
+                "deleted-animal", room.getId()))).isEqualTo(Set.of(free.getId()));
+        assertThat(animalRepository.existsById("deleted-animal")).isFalse();
+    }
+
+    @Test
+    public void recount_animals_of_legacy_rooms() throws Exception {
+        // stored before animalCount existed: occupied, but counting no animals
+        var legacy = roomRepository.save(Room.builder()
+                .title("Legacy")
+                .capacity(50.0)
+                .usedVolume(20.0)
+                .allowedCategory(Category.WILD)
+                .build());
+        var empty = roomRepository.save(Room.builder().title("Empty").capacity(50.0).build());
+        for (var title : List.of("Lion", "Tiger")) {
+            animalRepository.save(Animal.builder()
+                    .title(title)
+                    .category(Category.WILD)
+                    .volume(10.0)
+                    .roomId(legacy.getId())
+                    .build());
+        }
+
+        assertThat(roomRepository.recountAnimals(false)).isEqualTo(1L);
+
+        var recounted = roomRepository.findById(legacy.getId()).orElseThrow();
+        assertThat(recounted.getAnimalCount()).isEqualTo(2L);
+        assertThat(recounted.getVersion()).isEqualTo(legacy.getVersion() + 1);
+        assertThat(roomRepository.findById(empty.getId()).orElseThrow().getVersion()).isEqualTo(empty.getVersion());
+        assertThat(roomRepository.recountAnimals(false)).isEqualTo(0L);
+    }
+
+    @Test
+    public void recount_animals_drops_legacy_animal_ids() throws Exception {
+        var legacy = roomRepository.save(Room.builder()
+                .title("Legacy")
+                .capacity(50.0)
+                .usedVolume(10.0)
+                .allowedCategory(Category.WILD)
+                .animalIds(new HashSet<>(Set.of("lion")))
+                .build());
+        animalRepository.save(Animal.builder()
+                .id("lion")
+                .title("Lion")
+                .category(Category.WILD)
+                .volume(10.0)
+                .roomId(legacy.getId())
+                .build());
+
+        assertThat(roomRepository.recountAnimals(true)).isEqualTo(1L);
+
+        var recounted = roomRepository.findById(legacy.getId()).orElseThrow();
+        assertThat(recounted.getAnimalCount()).isEqualTo(1L);
+        assertThat(recounted.getAnimalIds().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void client_cannot_set_animal_count() throws Exception {
+        mockMvc.perform(post("/api/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Jungle\", \"capacity\": 10, \"allowedCategory\": \"WILD\", \"animalCount\": 7}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.animalCount").value(0));
+    }
 }
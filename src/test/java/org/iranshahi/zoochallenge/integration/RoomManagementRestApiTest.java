@@ -1,20 +1,30 @@
 package org.iranshahi.zoochallenge.integration;
 
+import org.iranshahi.zoochallenge.business.service.impl.FavouriteRoomCounterBackfill;
 import org.iranshahi.zoochallenge.config.AbstractIntegrationTest;
 import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
 import org.iranshahi.zoochallenge.data.model.Room;
 import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
 import org.iranshahi.zoochallenge.data.repository.RoomRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,11 +38,16 @@ public class RoomManagementRestApiTest extends AbstractIntegrationTest {
     RoomRepository roomRepository;
     @Autowired
     AnimalRepository animalRepository;
+    @Autowired
+    FavouriteRoomCounterRepository counterRepository;
+    @Autowired
+    FavouriteRoomCounterBackfill counterBackfill;
 
     @BeforeEach
     void setup() {
         animalRepository.deleteAll();
         roomRepository.deleteAll();
+        counterRepository.deleteAll();
     }
 
     @Test
@@ -46,9 +61,201 @@ public class RoomManagementRestApiTest extends AbstractIntegrationTest {
         // one with Desert
         animalRepository.save(Animal.builder().title("Camel").favouriteRoomIds(Set.of(desert.getId())).build());
 
+        mockMvc.perform(post("/api/rooms/favourites/rebuild"))
+                .andExpect(status().isNoContent());
+
         mockMvc.perform(get("/api/rooms/favourites"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[?(@.title=='Jungle')].count").value(2))
                 .andExpect(jsonPath("$[?(@.title=='Desert')].count").value(1));
     }
+
+    @Test
+    void favourite_counters_are_built_on_startup_when_missing() throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").build());
+        animalRepository.save(Animal.builder().title("Lion").favouriteRoomIds(Set.of(jungle.getId())).build());
+        animalRepository.save(Animal.builder().title("Tiger").favouriteRoomIds(Set.of(jungle.getId())).build());
+
+        counterBackfill.stop();
+        counterBackfill.start();
+
+        mockMvc.perform(get("/api/rooms/favourites"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Jungle"))
+                .andExpect(jsonPath("$[0].count").value(2));
+
+        // existing counters are kept
+        counterRepository.save(new FavouriteRoomCounter(jungle.getId(), "Jungle", 5));
+        counterBackfill.stop();
+        counterBackfill.start();
+
+        mockMvc.perform(get("/api/rooms/favourites"))
+                .andExpect(jsonPath("$[0].count").value(5));
+    }
+
+    @Test
+    void favourite_counters_follow_favourite_changes() throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").build());
+        var lion = animalRepository.save(Animal.builder().title("Lion").build());
+        var tiger = animalRepository.save(Animal.builder().title("Tiger").build());
+        var favourite = "{\"roomId\": \"" + jungle.getId() + "\"}";
+
+        for (var animal : List.of(lion, tiger, lion)) {
+            mockMvc.perform(post("/api/animals/{id}/favourites", animal.getId())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(favourite))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/rooms/favourites"))
+                .andExpect(jsonPath("$[0].title").value("Jungle"))
+                .andExpect(jsonPath("$[0].count").value(2));
+
+        mockMvc.perform(delete("/api/animals/{id}/favourites/{roomId}", lion.getId(), jungle.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/animals/{id}", tiger.getId()))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(get("/api/rooms/favourites"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void page_through_favourite_rooms_leaderboard() throws Exception {
+        counterRepository.saveAll(List.of(
+                new FavouriteRoomCounter("r1", "Jungle", 5_000_000_000L),
+                new FavouriteRoomCounter("r2", "Desert", 3),
+                new FavouriteRoomCounter("r3", "Savanna", 3),
+                new FavouriteRoomCounter("r4", "Arctic", 0)));
+
+        var cursor = mockMvc.perform(get("/api/rooms/favourites/top").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rooms.length()").value(2))
+                .andExpect(jsonPath("$.rooms[0].title").value("Jungle"))
+                .andExpect(jsonPath("$.rooms[0].count").value(5_000_000_000L))
+                .andExpect(jsonPath("$.rooms[1].title").value("Desert"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"nextCursor\":\"([^\"]+)\".*", "$1");
+
+        mockMvc.perform(get("/api/rooms/favourites/top").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rooms.length()").value(1))
+                .andExpect(jsonPath("$.rooms[0].title").value("Savanna"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/api/rooms/favourites/top").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_CURSOR"));
+    }
+
+    @Test
+    void create_room_with_title_differing_in_case() throws Exception {
+        mockMvc.perform(post("/api/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Jungle\", \"capacity\": 10, \"allowedCategory\": \"WILD\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"JUNGLE\", \"capacity\": 10, \"allowedCategory\": \"WILD\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void rename_room_to_title_differing_in_case() throws Exception {
+        roomRepository.save(Room.builder().title("Jungle").build());
+        var desert = roomRepository.save(Room.builder().title("Desert").build());
+
+        mockMvc.perform(put("/api/rooms/{id}", desert.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"jungle\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void get_unchanged_room_with_etag() throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").capacity(10.0).build());
+
+        var etag = mockMvc.perform(get("/api/rooms/{id}", jungle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/rooms/{id}", jungle.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/rooms/{id}", jungle.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Rainforest\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/rooms/{id}", jungle.getId()).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Rainforest"));
+    }
+
+    @Test
+    void get_room_with_expanded_animals_by_page() throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").capacity(50.0).build());
+        for (var title : List.of("Tiger", "Lion", "Panther")) {
+            animalRepository.save(Animal.builder().title(title).volume(5.0).roomId(jungle.getId()).build());
+        }
+        animalRepository.save(Animal.builder().title("Camel").volume(5.0).build());
+
+        mockMvc.perform(get("/api/rooms/{id}", jungle.getId()).param("expand", "animals").param("animalsSize", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Jungle"))
+                .andExpect(jsonPath("$.animals.content.length()").value(2))
+                .andExpect(jsonPath("$.animals.content[0].title").value("Lion"))
+                .andExpect(jsonPath("$.animals.content[1].title").value("Panther"))
+                .andExpect(jsonPath("$.animals.hasNext").value(true));
+
+        mockMvc.perform(get("/api/rooms/{id}", jungle.getId())
+                        .param("expand", "animals").param("animalsSize", "2").param("animalsPage", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.animals.content.length()").value(1))
+                .andExpect(jsonPath("$.animals.content[0].title").value("Tiger"))
+                .andExpect(jsonPath("$.animals.hasNext").value(false));
+
+        mockMvc.perform(get("/api/rooms/{id}", "unknown").param("expand", "animals"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("ROOM_NOT_FOUND"));
+    }
+
+    @Test
+    void batch_get_rooms_in_request_order() throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").capacity(10.0).build());
+        var desert = roomRepository.save(Room.builder().title("Desert").capacity(20.0).build());
+
+        // the first read caches Desert, the batch mixes cached and uncached rooms
+        mockMvc.perform(get("/api/rooms/{id}", desert.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/rooms:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"" + desert.getId() + "\", \"unknown\", \"" + jungle.getId() + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("Desert"))
+                .andExpect(jsonPath("$.items[1].title").value("Jungle"))
+                .andExpect(jsonPath("$.missingIds[0]").value("unknown"));
+
+        mockMvc.perform(post("/api/rooms:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest());
+
+        // the limit counts distinct ids in the body as it does in the query string
+        var repeated = String.join(",", Collections.nCopies(1001, "\"" + jungle.getId() + "\""));
+        mockMvc.perform(post("/api/rooms:batchGet")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [" + repeated + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+        mockMvc.perform(get("/api/rooms").param("ids", Collections.nCopies(1001, jungle.getId()).toArray(String[]::new)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1));
+    }
 }
@@ -0,0 +1,102 @@
+package org.iranshahi.zoochallenge.integration;
+
+import org.iranshahi.zoochallenge.business.service.ZooSnapshotService;
+import org.iranshahi.zoochallenge.config.AbstractIntegrationTest;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.FavouriteRoomCounter;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ZooSnapshotTest extends AbstractIntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    RoomRepository roomRepository;
+    @Autowired
+    AnimalRepository animalRepository;
+    @Autowired
+    FavouriteRoomCounterRepository counterRepository;
+    @Autowired
+    ZooSnapshotService zooSnapshotService;
+
+    @BeforeEach
+    void setup() {
+        animalRepository.deleteAll();
+        roomRepository.deleteAll();
+        counterRepository.deleteAll();
+    }
+
+    @Test
+    void restore_snapshot_keeps_ids_and_versions(@TempDir Path dir) throws Exception {
+        var jungle = new Room();
+        jungle.setTitle("Jungle");
+        jungle = roomRepository.save(jungle);
+        jungle.setCapacity(10.0);
+        jungle = roomRepository.save(jungle);
+        var lion = animalRepository.save(Animal.builder().title("Lion").favouriteRoomIds(Set.of(jungle.getId())).build());
+        counterRepository.save(new FavouriteRoomCounter(jungle.getId(), "Jungle", 1));
+
+        var snapshot = dir.resolve("zoo.snap");
+        var created = zooSnapshotService.create(snapshot);
+        assertEquals(1L, created.documents().get("animals"));
+
+        animalRepository.deleteAll();
+        roomRepository.deleteAll();
+        counterRepository.deleteAll();
+        var restored = zooSnapshotService.restore(snapshot);
+
+        assertEquals(created.documents(), restored.documents());
+        var restoredJungle = roomRepository.findById(jungle.getId()).orElseThrow();
+        assertEquals(jungle.getVersion(), restoredJungle.getVersion());
+        assertEquals(10.0, restoredJungle.getCapacity());
+        assertEquals(lion.getFavouriteRoomIds(), animalRepository.findById(lion.getId()).orElseThrow().getFavouriteRoomIds());
+        assertEquals(1, counterRepository.findById(jungle.getId()).orElseThrow().getCount());
+
+        mockMvc.perform(post("/api/rooms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"JUNGLE\", \"capacity\": 10, \"allowedCategory\": \"WILD\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void restored_rooms_are_not_served_from_cache(@TempDir Path dir) throws Exception {
+        var jungle = roomRepository.save(Room.builder().title("Jungle").capacity(10.0).build());
+        var snapshot = dir.resolve("zoo.snap");
+        zooSnapshotService.create(snapshot);
+
+        // the rename caches a newer version than the one in the snapshot
+        mockMvc.perform(put("/api/rooms/{id}", jungle.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Rainforest\"}"))
+                .andExpect(status().isOk());
+
+        zooSnapshotService.restore(snapshot);
+
+        mockMvc.perform(get("/api/rooms/{id}", jungle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Jungle"));
+    }
+}
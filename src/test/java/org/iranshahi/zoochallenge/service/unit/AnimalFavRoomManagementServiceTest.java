@@ -1,59 +1,100 @@
 package org.iranshahi.zoochallenge.service.unit;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.mapper.RoomMapper;
 import org.iranshahi.zoochallenge.business.service.AnimalFavouriteRoomManagementService;
 import org.iranshahi.zoochallenge.business.service.impl.AnimalServiceImpl;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCache;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.configs.RoomProperties.OccupancyMode;
 import org.iranshahi.zoochallenge.data.model.Animal;
 import org.iranshahi.zoochallenge.data.model.Room;
 import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
 import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
 import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
 
 public class AnimalFavRoomManagementServiceTest {
 
     private AnimalRepository animalRepository;
     private RoomRepository roomRepository;
+    private FavouriteRoomCounterRepository counterRepository;
     private AnimalFavouriteRoomManagementService animalService;
 
     @BeforeEach
     void setUp() {
         animalRepository = mock(AnimalRepository.class);
         roomRepository = mock(RoomRepository.class);
+        counterRepository = mock(FavouriteRoomCounterRepository.class);
         AnimalMapper animalMapper = new AnimalMapper();
-        animalService = new AnimalServiceImpl(animalRepository, animalMapper, roomRepository);
+        animalService = new AnimalServiceImpl(animalRepository, animalMapper, new RoomMapper(), new RoomCache(roomRepository, new RoomProperties(OccupancyMode.EMBEDDED, new RoomProperties.Cache(100, Duration.ofMinutes(1)), false),
+                new SimpleMeterRegistry()), counterRepository, new SimpleMeterRegistry());
     }
 
     @Test
     void add_favourite_room_for_animal() {
-        var animal = Animal.builder().id("a1").favouriteRoomIds(new HashSet<>()).build();
-        var room = Room.builder().id("r1").title("Desert").build();
+        var animal = Animal.builder().id("a1").favouriteRoomIds(new HashSet<>(Set.of("r1"))).build();
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(Room.builder().id("r1").title("Desert").build()));
+        when(animalRepository.addFavouriteRoom("a1", "r1")).thenReturn(Optional.of(animal));
+
+        var result = animalService.addFavouriteRoom("a1", "r1");
+        assertTrue(result.favouriteRoomIds().contains("r1"));
+        verify(animalRepository, never()).save(any());
+        verify(counterRepository, times(1)).increment("r1", "Desert", 1);
+    }
+
+    @Test
+    void add_existing_favourite_room_keeps_counter() {
+        var animal = Animal.builder().id("a1").favouriteRoomIds(new HashSet<>(Set.of("r1"))).build();
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(Room.builder().id("r1").title("Desert").build()));
+        when(animalRepository.addFavouriteRoom("a1", "r1")).thenReturn(Optional.empty());
         when(animalRepository.findById("a1")).thenReturn(Optional.of(animal));
-        when(roomRepository.findById("r1")).thenReturn(Optional.of(room));
-        when(animalRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         var result = animalService.addFavouriteRoom("a1", "r1");
         assertTrue(result.favouriteRoomIds().contains("r1"));
+        verify(counterRepository, never()).increment(any(), any(), anyLong());
+    }
+
+    @Test
+    void remove_favourite_room_decrements_counter() {
+        var animal = Animal.builder().id("a1").favouriteRoomIds(new HashSet<>()).build();
+        when(animalRepository.removeFavouriteRoom("a1", "r1")).thenReturn(Optional.of(animal));
+
+        animalService.removeFavouriteRoom("a1", "r1");
+        verify(counterRepository, times(1)).decrement(List.of("r1"));
+    }
+
+    @Test
+    void remove_favourite_room_of_missing_animal() {
+        when(animalRepository.removeFavouriteRoom("a404", "r1")).thenReturn(Optional.empty());
+        when(animalRepository.findById("a404")).thenReturn(Optional.empty());
+
+        assertThrows(AnimalNotFoundException.class, () -> animalService.removeFavouriteRoom("a404", "r1"));
+        verify(counterRepository, never()).decrement(any());
     }
 
     @Test
     void room_notFound_while_adding_to_animal_favourite() {
-        Animal a = Animal.builder().id("a1").build();
-        when(animalRepository.findById("a1")).thenReturn(Optional.of(a));
         when(roomRepository.findById("r404")).thenReturn(Optional.empty());
 
         assertThrows(RoomNotFoundException.class,
                 () -> animalService.addFavouriteRoom("a1", "r404"));
+        verify(animalRepository, never()).addFavouriteRoom(any(), any());
     }
 }
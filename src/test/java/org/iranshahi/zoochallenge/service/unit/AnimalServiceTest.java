@@ -1,18 +1,26 @@
 package org.iranshahi.zoochallenge.service.unit;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.iranshahi.zoochallenge.business.dto.AnimalDto;
 import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.mapper.RoomMapper;
 import org.iranshahi.zoochallenge.business.service.AnimalManagementService;
+import org.iranshahi.zoochallenge.business.service.FieldSelection;
 import org.iranshahi.zoochallenge.business.service.impl.AnimalServiceImpl;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCache;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.configs.RoomProperties.OccupancyMode;
 import org.iranshahi.zoochallenge.data.model.Animal;
 import org.iranshahi.zoochallenge.data.model.Category;
 import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
 import org.iranshahi.zoochallenge.data.repository.RoomRepository;
 import org.iranshahi.zoochallenge.exceptions.AnimalNotFoundException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.Set;
@@ -37,7 +45,9 @@ public class AnimalServiceTest {
         animalRepository = mock(AnimalRepository.class);
         var roomRepository = mock(RoomRepository.class);
         animalMapper = new AnimalMapper();
-        animalService = new AnimalServiceImpl(animalRepository, animalMapper, roomRepository);
+        animalService = new AnimalServiceImpl(animalRepository, animalMapper, new RoomMapper(), new RoomCache(roomRepository, new RoomProperties(OccupancyMode.EMBEDDED, new RoomProperties.Cache(100, Duration.ofMinutes(1)), false),
+                new SimpleMeterRegistry()), mock(FavouriteRoomCounterRepository.class),
+                new SimpleMeterRegistry());
     }
 
     @Test
@@ -86,8 +96,7 @@ public class AnimalServiceTest {
         );
 
         var entity = animalMapper.toEntity(expected);
-        when(animalRepository.findById(animalId)).thenReturn(Optional.of(entity));
-        when(animalRepository.save(any())).thenReturn(entity);
+        when(animalRepository.updateDetails(animalId, expected.title(), located)).thenReturn(Optional.of(entity));
 
         // when
         var result = animalService.update(animalId, expected);
@@ -97,7 +106,8 @@ public class AnimalServiceTest {
         Assertions.assertEquals(expected.title(), result.title());
         Assertions.assertEquals(expected.category(), result.category());
         Assertions.assertEquals(expected.volume(), result.volume());
-        verify(animalRepository).save(any());
+        verify(animalRepository, never()).findById(any());
+        verify(animalRepository, never()).save(any());
     }
 
     @Test
@@ -114,10 +124,23 @@ public class AnimalServiceTest {
                 1L
         );
 
-        when(animalRepository.findById(animalId)).thenReturn(Optional.empty());
+        when(animalRepository.updateDetails(any(), any(), any())).thenReturn(Optional.empty());
         Assertions.assertThrows(AnimalNotFoundException.class, () ->
                 animalService.update(animalId, animalDto)
         );
         verify(animalRepository, never()).save(any());
     }
+
+    @Test
+    void get_sparse_animal_reads_only_selected_fields() {
+        var fields = FieldSelection.parse("id,title", AnimalDto.class);
+        var projected = Animal.builder().id("animal-1").title("Tigger").version(3L).build();
+        when(animalRepository.findProjectedById("animal-1", Set.of("id", "title", "version"))).thenReturn(Optional.of(projected));
+
+        var result = animalService.get("animal-1", fields);
+
+        Assertions.assertEquals("Tigger", result.title());
+        Assertions.assertEquals(3L, result.version());
+        verify(animalRepository, never()).findById(any());
+    }
 }
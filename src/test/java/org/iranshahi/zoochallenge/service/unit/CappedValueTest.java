@@ -0,0 +1,83 @@
+package org.iranshahi.zoochallenge.service.unit;
+
+import org.iranshahi.zoochallenge.aspect.log.CappedValue;
+import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.configs.LoggingProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CappedValue} and the sampling of {@link LoggingProperties}, verifying traced values
+ * are rendered lazily and within bounds.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public class CappedValueTest {
+
+    @Test
+    void value_is_not_rendered_until_formatted() {
+        var renders = new AtomicInteger();
+        var value = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "rendered";
+            }
+        };
+
+        var capped = CappedValue.of(value, 100, 10);
+        assertEquals(0, renders.get());
+        assertEquals("rendered", capped.toString());
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    void big_sets_of_a_record_are_rendered_with_their_first_elements() {
+        var animalIds = IntStream.range(0, 1000).mapToObj(i -> "animal-" + i).collect(Collectors.toSet());
+        var room = RoomDto.builder().id("room1").title("Jungle").animalIds(animalIds).build();
+
+        var rendered = CappedValue.of(room, 1000, 3).toString();
+
+        assertTrue(rendered.startsWith("RoomDto[id=room1, title=Jungle"), rendered);
+        assertTrue(rendered.contains("... size=1000]"), rendered);
+        assertEquals(3, rendered.split("animal-", -1).length - 1, rendered);
+    }
+
+    @Test
+    void rendering_stops_at_max_length() {
+        var rendered = CappedValue.of(new Object[]{"x".repeat(10_000), 42}, 50, 10).toString();
+
+        assertEquals(53, rendered.length());
+        assertTrue(rendered.endsWith("..."));
+    }
+
+    @Test
+    void page_is_rendered_with_its_position() {
+        var page = new PageImpl<>(List.of("Lion", "Tiger"), PageRequest.of(1, 2), 10);
+
+        assertEquals("Page 1 of 5 (10 elements) [Lion, Tiger]", CappedValue.of(page, 100, 10).toString());
+    }
+
+    @Test
+    void sampling_rate_of_longest_matching_package() {
+        var properties = new LoggingProperties(256, 10, Map.of(
+                "org.iranshahi.zoochallenge", 0.5,
+                "org.iranshahi.zoochallenge.data.repository", 0.01,
+                "org.iranshahi.zoochallenge.web.rest.ETags", 2.0));
+
+        assertEquals(0.01, properties.samplingRate("org.iranshahi.zoochallenge.data.repository.AnimalRepository"));
+        assertEquals(0.5, properties.samplingRate("org.iranshahi.zoochallenge.data.repositoryX.Other"));
+        assertEquals(1.0, properties.samplingRate("org.iranshahi.zoochallenge.web.rest.ETags"));
+        assertEquals(1.0, properties.samplingRate("com.example.Other"));
+    }
+}
@@ -0,0 +1,65 @@
+package org.iranshahi.zoochallenge.service.unit;
+
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementDto;
+import org.iranshahi.zoochallenge.business.dto.BatchPlacementResultDto;
+import org.iranshahi.zoochallenge.business.service.PlacementService;
+import org.iranshahi.zoochallenge.business.service.impl.PlacementOptimizationServiceImpl;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link PlacementOptimizationServiceImpl}.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public class PlacementOptimizationServiceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pack_unplaced_animals_best_fit_decreasing() {
+        var animalRepository = mock(AnimalRepository.class);
+        var roomRepository = mock(RoomRepository.class);
+        var placementService = mock(PlacementService.class);
+        when(animalRepository.streamUnplaced()).thenReturn(Stream.of(
+                Animal.builder().id("small").category(Category.DOMESTIC).volume(3.0).build(),
+                Animal.builder().id("big").category(Category.DOMESTIC).volume(8.0).build(),
+                Animal.builder().id("lion").category(Category.WILD).volume(20.0).build()));
+        when(roomRepository.streamWithFreeCapacity()).thenReturn(Stream.of(
+                Room.builder().id("domestic").capacity(10.0).usedVolume(2.0).allowedCategory(Category.DOMESTIC).build(),
+                Room.builder().id("huge").capacity(100.0).usedVolume(0.0).build(),
+                Room.builder().id("empty").capacity(25.0).usedVolume(0.0).build()));
+        when(placementService.placeAll(anyList())).thenAnswer(invocation -> {
+            List<BatchPlacementDto.Item> items = invocation.getArgument(0);
+            return new BatchPlacementResultDto(items.size(), 0, items.stream()
+                    .map(item -> new BatchPlacementResultDto.ItemResult(item.animalId(), item.roomId(), true, null, null))
+                    .toList());
+        });
+
+        var report = new PlacementOptimizationServiceImpl(animalRepository, roomRepository, placementService)
+                .placeUnplacedAnimals();
+
+        ArgumentCaptor<List<BatchPlacementDto.Item>> items = ArgumentCaptor.forClass(List.class);
+        verify(placementService).placeAll(items.capture());
+        assertEquals(List.of(
+                        new BatchPlacementDto.Item("lion", "empty"),
+                        new BatchPlacementDto.Item("small", "huge"),
+                        new BatchPlacementDto.Item("big", "domestic")),
+                items.getValue());
+        assertEquals(3, report.unplacedAnimals());
+        assertEquals(3, report.placedAnimals());
+        assertEquals(3, report.roomsUsed());
+    }
+}
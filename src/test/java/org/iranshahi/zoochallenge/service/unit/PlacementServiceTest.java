@@ -0,0 +1,213 @@
+package org.iranshahi.zoochallenge.service.unit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto.CommandStatus;
+import org.iranshahi.zoochallenge.business.dto.PlacementCommandDto.CommandType;
+import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.service.PlacementService;
+import org.iranshahi.zoochallenge.business.service.impl.PlacementCommandQueue;
+import org.iranshahi.zoochallenge.business.service.impl.PlacementMetrics;
+import org.iranshahi.zoochallenge.business.service.impl.PlacementServiceImpl;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCache;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCapacityIndex;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.Contention;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.Index;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.PlacementMode;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.Queue;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.AnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.iranshahi.zoochallenge.exceptions.CategoryMismatchException;
+import org.iranshahi.zoochallenge.exceptions.ConcurrencyException;
+import org.iranshahi.zoochallenge.exceptions.NoRoomAvailableException;
+import org.iranshahi.zoochallenge.exceptions.PlacementQueueFullException;
+import org.iranshahi.zoochallenge.exceptions.RoomOutOfSpaceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link PlacementServiceImpl} in {@link PlacementMode#ATOMIC} mode.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public class PlacementServiceTest {
+
+    private AnimalRepository animalRepository;
+    private RoomRepository roomRepository;
+    private RoomCapacityIndex roomCapacityIndex;
+    private PlacementService placementService;
+    private MeterRegistry meterRegistry;
+    private PlacementMetrics placementMetrics;
+
+    @BeforeEach
+    void setUp() {
+        animalRepository = mock(AnimalRepository.class);
+        roomRepository = mock(RoomRepository.class);
+        var properties = new PlacementProperties(PlacementMode.ATOMIC, new Queue(1, 16, Duration.ofMinutes(1)),
+                new Index(5, Duration.ofSeconds(30)), new Contention(Duration.ofMinutes(1), 6, 10));
+        roomCapacityIndex = new RoomCapacityIndex(roomRepository, properties);
+        meterRegistry = new SimpleMeterRegistry();
+        placementMetrics = new PlacementMetrics(meterRegistry, properties);
+        var roomProperties = new RoomProperties(RoomProperties.OccupancyMode.EMBEDDED,
+                new RoomProperties.Cache(100, Duration.ofMinutes(1)), false);
+        placementService = new PlacementServiceImpl(roomRepository, animalRepository, new AnimalMapper(),
+                properties, new PlacementCommandQueue(properties), roomCapacityIndex,
+                roomProperties, placementMetrics, new RoomCache(roomRepository, roomProperties, meterRegistry));
+    }
+
+    private Animal animal() {
+        return Animal.builder().id("a1").title("Dog").category(Category.DOMESTIC).volume(10.0).version(0L).build();
+    }
+
+    @Test
+    void place_animal_with_single_room_write() {
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.claimSpace("r1", "a1", Category.DOMESTIC, 10.0))
+                .thenReturn(Optional.of(Room.builder().id("r1").build()));
+        when(animalRepository.assignRoom("a1", null, "r1")).thenReturn(true);
+
+        var result = placementService.place("a1", "r1");
+
+        assertEquals("r1", result.roomId());
+        verify(roomRepository, never()).save(any());
+        verify(animalRepository, never()).save(any());
+        verify(roomRepository, never()).findById(any());
+    }
+
+    @Test
+    void place_animal_in_full_room() {
+        var room = Room.builder().id("r1").capacity(15.0).usedVolume(10.0).allowedCategory(Category.DOMESTIC).build();
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.claimSpace("r1", "a1", Category.DOMESTIC, 10.0)).thenReturn(Optional.empty());
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(room));
+
+        assertThrows(RoomOutOfSpaceException.class, () -> placementService.place("a1", "r1"));
+        verify(animalRepository, never()).assignRoom(any(), any(), any());
+        assertEquals(1.0, meterRegistry.counter("zoo.placement.rejections", "code", "ROOM_IS_FULL").count());
+    }
+
+    @Test
+    void place_animal_in_room_with_other_category() {
+        var room = Room.builder().id("r1").capacity(50.0).allowedCategory(Category.WILD).build();
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.claimSpace("r1", "a1", Category.DOMESTIC, 10.0)).thenReturn(Optional.empty());
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(room));
+
+        assertThrows(CategoryMismatchException.class, () -> placementService.place("a1", "r1"));
+    }
+
+    @Test
+    void place_animal_releases_claim_when_animal_changed_concurrently() {
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.claimSpace("r1", "a1", Category.DOMESTIC, 10.0))
+                .thenReturn(Optional.of(Room.builder().id("r1").build()));
+        when(animalRepository.assignRoom("a1", null, "r1")).thenReturn(false);
+
+        assertThrows(ConcurrencyException.class, () -> placementService.place("a1", "r1"));
+        verify(roomRepository).releaseSpace("r1", "a1", 10.0);
+        assertEquals(List.of(new PlacementMetrics.ContendedRoom("r1", 1)), placementMetrics.contention(null).rooms());
+    }
+
+    @Test
+    void contention_report_with_negative_limit_lists_no_rooms() {
+        placementMetrics.retried("r1", Duration.ofMillis(1));
+
+        assertEquals(List.of(), placementMetrics.contention(-1).rooms());
+        assertEquals(1, placementMetrics.contention(null).rooms().size());
+    }
+
+    @Test
+    void queued_placement_is_executed_on_room_mailbox() {
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.claimSpace("r1", "a1", Category.DOMESTIC, 10.0))
+                .thenReturn(Optional.of(Room.builder().id("r1").build()));
+        when(animalRepository.assignRoom("a1", null, "r1")).thenReturn(true);
+
+        var accepted = placementService.submitPlace("a1", "r1");
+        var finished = placementService.awaitCommand(accepted.id(), Duration.ofSeconds(5)).join();
+
+        assertEquals(CommandStatus.DONE, finished.status());
+        assertEquals("r1", finished.result().roomId());
+    }
+
+    @Test
+    void queued_placement_reports_business_error() {
+        var room = Room.builder().id("r1").capacity(5.0).allowedCategory(Category.DOMESTIC).build();
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.claimSpace("r1", "a1", Category.DOMESTIC, 10.0)).thenReturn(Optional.empty());
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(room));
+
+        var accepted = placementService.submitPlace("a1", "r1");
+        var finished = placementService.awaitCommand(accepted.id(), Duration.ofSeconds(5)).join();
+
+        assertEquals(CommandStatus.FAILED, finished.status());
+        assertEquals("ROOM_IS_FULL", finished.errorCode());
+    }
+
+    @Test
+    void full_queue_rejects_commands() {
+        var properties = new PlacementProperties(PlacementMode.ATOMIC, new Queue(1, 1, Duration.ofMinutes(1)),
+                new Index(5, Duration.ofSeconds(30)), new Contention(Duration.ofMinutes(1), 6, 10));
+        var queue = new PlacementCommandQueue(properties);
+        var release = new CountDownLatch(1);
+
+        var accepted = queue.submit(CommandType.PLACE, "r1", "a1", "r1", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        assertThrows(PlacementQueueFullException.class,
+                () -> queue.submit(CommandType.PLACE, "r2", "a2", "r2", () -> null));
+
+        release.countDown();
+        assertEquals(CommandStatus.DONE, queue.await(accepted.id(), Duration.ofSeconds(5)).join().status());
+    }
+
+    @Test
+    void auto_place_animal_in_best_fitting_room() {
+        roomCapacityIndex.update(Room.builder().id("big").capacity(100.0).allowedCategory(Category.DOMESTIC).version(0L).build());
+        roomCapacityIndex.update(Room.builder().id("tight").capacity(12.0).allowedCategory(Category.DOMESTIC).version(0L).build());
+        roomCapacityIndex.update(Room.builder().id("small").capacity(5.0).allowedCategory(Category.DOMESTIC).version(0L).build());
+        roomCapacityIndex.update(Room.builder().id("wild").capacity(11.0).allowedCategory(Category.WILD).version(0L).build());
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.claimSpace("tight", "a1", Category.DOMESTIC, 10.0))
+                .thenReturn(Optional.of(Room.builder().id("tight").capacity(12.0).usedVolume(10.0)
+                        .allowedCategory(Category.DOMESTIC).version(1L).build()));
+        when(animalRepository.assignRoom("a1", null, "tight")).thenReturn(true);
+
+        var result = placementService.autoPlace("a1");
+
+        assertEquals("tight", result.roomId());
+        assertEquals(List.of("big"), roomCapacityIndex.candidates(Category.DOMESTIC, 10.0, 5));
+    }
+
+    @Test
+    void auto_place_animal_without_fitting_room() {
+        roomCapacityIndex.update(Room.builder().id("small").capacity(5.0).allowedCategory(Category.DOMESTIC).version(0L).build());
+        when(animalRepository.findById("a1")).thenReturn(Optional.of(animal()));
+        when(roomRepository.streamCapacities()).thenReturn(Stream.empty());
+
+        assertThrows(NoRoomAvailableException.class, () -> placementService.autoPlace("a1"));
+    }
+}
@@ -0,0 +1,106 @@
+package org.iranshahi.zoochallenge.service.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
+import org.iranshahi.zoochallenge.business.service.ReactivePlacementService;
+import org.iranshahi.zoochallenge.business.service.impl.PlacementMetrics;
+import org.iranshahi.zoochallenge.business.service.impl.ReactivePlacementServiceImpl;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCapacityIndex;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.Contention;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.Index;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.PlacementMode;
+import org.iranshahi.zoochallenge.configs.PlacementProperties.Queue;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.data.model.Animal;
+import org.iranshahi.zoochallenge.data.model.Category;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.ReactiveAnimalRepository;
+import org.iranshahi.zoochallenge.data.repository.ReactiveRoomRepository;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.iranshahi.zoochallenge.exceptions.ConcurrencyException;
+import org.iranshahi.zoochallenge.exceptions.RoomOutOfSpaceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReactivePlacementServiceImpl}, verifying the non-blocking optimistic retries.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public class ReactivePlacementServiceTest {
+
+    private ReactiveAnimalRepository animalRepository;
+    private ReactiveRoomRepository roomRepository;
+    private PlacementMetrics placementMetrics;
+    private ReactivePlacementService placementService;
+
+    @BeforeEach
+    void setUp() {
+        animalRepository = mock(ReactiveAnimalRepository.class);
+        roomRepository = mock(ReactiveRoomRepository.class);
+        var properties = new PlacementProperties(PlacementMode.OPTIMISTIC, new Queue(1, 16, Duration.ofMinutes(1)),
+                new Index(5, Duration.ofSeconds(30)), new Contention(Duration.ofMinutes(1), 6, 10));
+        placementMetrics = new PlacementMetrics(new SimpleMeterRegistry(), properties);
+        var roomProperties = new RoomProperties(RoomProperties.OccupancyMode.EMBEDDED,
+                new RoomProperties.Cache(100, Duration.ofMinutes(1)), false);
+        placementService = new ReactivePlacementServiceImpl(roomRepository, animalRepository, new AnimalMapper(),
+                properties, new RoomCapacityIndex(mock(RoomRepository.class), properties), roomProperties,
+                placementMetrics);
+
+        when(animalRepository.findById("a1")).thenReturn(Mono.fromSupplier(() ->
+                Animal.builder().id("a1").title("Dog").category(Category.DOMESTIC).volume(10.0).version(0L).build()));
+        when(animalRepository.save(any(Animal.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+    }
+
+    private void roomWithFreeVolume(double free) {
+        when(roomRepository.findById("r1")).thenReturn(Mono.fromSupplier(() -> Room.builder()
+                .id("r1").capacity(free).usedVolume(0.0).animalIds(new HashSet<>()).version(0L).build()));
+    }
+
+    @Test
+    void place_animal_retries_optimistic_lock_conflict() {
+        roomWithFreeVolume(50.0);
+        when(roomRepository.save(any(Room.class)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("conflict")))
+                .thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+
+        var result = placementService.place("a1", "r1").block();
+
+        assertEquals("r1", result.roomId());
+        verify(roomRepository, times(2)).save(any(Room.class));
+        verify(animalRepository, times(1)).save(any(Animal.class));
+        assertEquals(List.of(new PlacementMetrics.ContendedRoom("r1", 1)), placementMetrics.contention(null).rooms());
+    }
+
+    @Test
+    void place_animal_gives_up_after_repeated_conflicts() {
+        roomWithFreeVolume(50.0);
+        when(roomRepository.save(any(Room.class)))
+                .thenReturn(Mono.error(new OptimisticLockingFailureException("conflict")));
+
+        assertThrows(ConcurrencyException.class, () -> placementService.place("a1", "r1").block());
+        verify(roomRepository, times(4)).save(any(Room.class));
+        verify(animalRepository, never()).save(any());
+    }
+
+    @Test
+    void place_animal_in_full_room() {
+        roomWithFreeVolume(5.0);
+
+        assertThrows(RoomOutOfSpaceException.class, () -> placementService.place("a1", "r1").block());
+        verify(roomRepository, never()).save(any());
+    }
+}
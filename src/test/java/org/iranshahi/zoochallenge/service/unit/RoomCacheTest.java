@@ -0,0 +1,72 @@
+package org.iranshahi.zoochallenge.service.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCache;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.configs.RoomProperties.OccupancyMode;
+import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RoomCache}, verifying a load racing with an eviction doesn't cache the state it read.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public class RoomCacheTest {
+
+    private RoomRepository roomRepository;
+    private RoomCache roomCache;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository = mock(RoomRepository.class);
+        var roomProperties = new RoomProperties(OccupancyMode.EMBEDDED, new RoomProperties.Cache(100, Duration.ofMinutes(1)), false);
+        roomCache = new RoomCache(roomRepository, roomProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void find_caches_the_loaded_room() {
+        var room = Room.builder().id("r1").title("Green").version(1L).build();
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(room));
+
+        assertEquals(Optional.of(room), roomCache.find("r1"));
+
+        assertEquals(Optional.of(room), roomCache.peek("r1"));
+    }
+
+    @Test
+    void find_does_not_cache_a_room_evicted_while_it_was_loading() {
+        var stale = Room.builder().id("r1").title("Green").version(1L).build();
+        when(roomRepository.findById("r1")).thenAnswer(inv -> {
+            // a claim writes the room and evicts it after this read
+            roomCache.evict("r1");
+            return Optional.of(stale);
+        });
+
+        assertEquals(Optional.of(stale), roomCache.find("r1"));
+
+        assertTrue(roomCache.peek("r1").isEmpty());
+    }
+
+    @Test
+    void find_does_not_cache_a_room_loading_during_evict_all() {
+        var stale = Room.builder().id("r1").title("Green").version(1L).build();
+        when(roomRepository.findById("r1")).thenAnswer(inv -> {
+            roomCache.evictAll();
+            return Optional.of(stale);
+        });
+
+        roomCache.find("r1");
+
+        assertTrue(roomCache.peek("r1").isEmpty());
+    }
+}
@@ -1,23 +1,34 @@
 package org.iranshahi.zoochallenge.service.unit;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.iranshahi.zoochallenge.business.dto.RoomDto;
+import org.iranshahi.zoochallenge.business.mapper.AnimalMapper;
 import org.iranshahi.zoochallenge.business.mapper.RoomMapper;
 import org.iranshahi.zoochallenge.business.service.RoomManagementService;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCache;
+import org.iranshahi.zoochallenge.business.service.impl.RoomCapacityIndex;
 import org.iranshahi.zoochallenge.business.service.impl.RoomServiceImpl;
+import org.iranshahi.zoochallenge.configs.PlacementProperties;
+import org.iranshahi.zoochallenge.configs.RoomProperties;
+import org.iranshahi.zoochallenge.configs.RoomProperties.OccupancyMode;
 import org.iranshahi.zoochallenge.data.model.Category;
 import org.iranshahi.zoochallenge.data.model.Room;
+import org.iranshahi.zoochallenge.data.repository.FavouriteRoomCounterRepository;
 import org.iranshahi.zoochallenge.data.repository.RoomRepository;
 import org.iranshahi.zoochallenge.exceptions.DuplicateRoomTitleException;
 import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,7 +46,12 @@ public class RoomServiceTest {
     void setUp() {
         roomRepository = mock(RoomRepository.class);
         RoomMapper roomMapper = new RoomMapper();
-        roomService = new RoomServiceImpl(roomRepository, roomMapper);
+        var roomCapacityIndex = new RoomCapacityIndex(roomRepository, new PlacementProperties(null, null,
+                new PlacementProperties.Index(5, Duration.ofSeconds(30)), null));
+        var roomProperties = new RoomProperties(OccupancyMode.EMBEDDED, new RoomProperties.Cache(100, Duration.ofMinutes(1)), false);
+        var roomCache = new RoomCache(roomRepository, roomProperties, new SimpleMeterRegistry());
+        roomService = new RoomServiceImpl(roomRepository, roomMapper, new AnimalMapper(), roomCapacityIndex, roomCache,
+                mock(FavouriteRoomCounterRepository.class));
     }
 
     @Test
@@ -48,11 +64,12 @@ public class RoomServiceTest {
                 30.0,
                 0.0,
                 new HashSet<>(),
+                0,
                 Category.WILD,
                 null
         );
 
-        when(roomRepository.save(any()))
+        when(roomRepository.insert(any(Room.class)))
                 .thenAnswer(inv -> {
                     Room room = inv.getArgument(0);
                     room.setId("room1");
@@ -66,7 +83,7 @@ public class RoomServiceTest {
         // Assert
         assertNotNull(createdRoom.id());
         assertEquals(roomTitle, createdRoom.title());
-        verify(roomRepository, times(1)).save(any(Room.class));
+        verify(roomRepository, times(1)).insert(any(Room.class));
     }
 
     @Test
@@ -79,11 +96,13 @@ public class RoomServiceTest {
                 30.0,
                 0.0,
                 new HashSet<>(),
+                0,
                 Category.WILD,
                 null
         );
 
-        when(roomRepository.existsByTitle(roomTitle)).thenReturn(true);
+        when(roomRepository.insert(any(Room.class))).thenThrow(new DuplicateKeyException(
+                "E11000 duplicate key error collection: zoo.rooms index: " + Room.TITLE_INDEX + " dup key"));
 
         // Assert
         assertThrows(DuplicateRoomTitleException.class,
@@ -92,6 +111,34 @@ public class RoomServiceTest {
         verify(roomRepository, never()).save(any());
     }
 
+    @Test
+    void create_a_room_ignores_client_id() {
+        // Arrange
+        var dto = new RoomDto(
+                "room1",
+                "Green",
+                30.0,
+                0.0,
+                new HashSet<>(),
+                0,
+                Category.WILD,
+                null
+        );
+
+        when(roomRepository.insert(any(Room.class))).thenAnswer(inv -> {
+            Room room = inv.getArgument(0);
+            assertNull(room.getId());
+            room.setId("generated");
+            return room;
+        });
+
+        // Act
+        var createdRoom = roomService.create(dto);
+
+        // Assert
+        assertEquals("generated", createdRoom.id());
+    }
+
     @Test
     void update_an_existing_room() {
         // Arrange
@@ -103,8 +150,10 @@ public class RoomServiceTest {
                 .allowedCategory(Category.WILD)
                 .build();
 
-        when(roomRepository.findById("room1")).thenReturn(Optional.of(existing));
-        when(roomRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(roomRepository.updateTitle("room1", newTitle)).thenAnswer(inv -> {
+            existing.setTitle(newTitle);
+            return Optional.of(existing);
+        });
 
         var updatedDto = new RoomDto(
                 "room1",
@@ -112,6 +161,7 @@ public class RoomServiceTest {
                 20.0,
                 0.0,
                 new HashSet<>(),
+                0,
                 Category.WILD,
                 1L
         );
@@ -121,7 +171,8 @@ public class RoomServiceTest {
 
         // Assert
         assertEquals(newTitle, result.title());
-        verify(roomRepository, times(1)).save(any(Room.class));
+        verify(roomRepository, never()).findById(any());
+        verify(roomRepository, never()).save(any(Room.class));
     }
 
     @Test
@@ -133,18 +184,12 @@ public class RoomServiceTest {
                 30.0,
                 0.0,
                 new HashSet<>(),
+                0,
                 Category.DOMESTIC,
                 null
         );
 
-        var existing = Room.builder()
-                .id("room1")
-                .title("Green")
-                .allowedCategory(Category.WILD)
-                .build();
-
-        when(roomRepository.findById("room1")).thenReturn(Optional.of(existing));
-        when(roomRepository.existsByTitle("Red")).thenReturn(true);
+        when(roomRepository.updateTitle("room1", "Red")).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
 
         // Assert
         assertThrows(DuplicateRoomTitleException.class,
@@ -156,13 +201,14 @@ public class RoomServiceTest {
     @Test
     void update_not_existing_room() {
         // Arrange
-        when(roomRepository.findById("r99")).thenReturn(Optional.empty());
+        when(roomRepository.updateTitle(eq("r99"), any())).thenReturn(Optional.empty());
         var dto = new RoomDto(
                 null,
                 "Green",
                 30.0,
                 0.0,
                 new HashSet<>(),
+                0,
                 Category.WILD,
                 null
         );
@@ -174,6 +220,31 @@ public class RoomServiceTest {
         verify(roomRepository, never()).save(any());
     }
 
+    @Test
+    void get_room_is_read_from_mongo_once() {
+        var room = Room.builder().id("room1").title("Green").capacity(20.0).allowedCategory(Category.WILD).version(0L).build();
+        when(roomRepository.findById("room1")).thenReturn(Optional.of(room));
+
+        roomService.get("room1");
+        var result = roomService.get("room1");
+
+        assertEquals("Green", result.title());
+        verify(roomRepository, times(1)).findById("room1");
+    }
+
+    @Test
+    void renamed_room_is_not_served_stale() {
+        var room = Room.builder().id("room1").title("Green").capacity(20.0).allowedCategory(Category.WILD).version(0L).build();
+        var renamed = Room.builder().id("room1").title("Red").capacity(20.0).allowedCategory(Category.WILD).version(1L).build();
+        when(roomRepository.findById("room1")).thenReturn(Optional.of(room));
+        when(roomRepository.updateTitle("room1", "Red")).thenReturn(Optional.of(renamed));
+
+        roomService.get("room1");
+        roomService.update("room1", RoomDto.builder().title("Red").build());
+
+        assertEquals("Red", roomService.get("room1").title());
+    }
+
     @Test
     void delete_room_invokes_repository() {
         doNothing().when(roomRepository).deleteById("room1");
@@ -0,0 +1,94 @@
+package org.iranshahi.zoochallenge.service.unit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.iranshahi.zoochallenge.business.service.impl.SingleFlight;
+import org.iranshahi.zoochallenge.exceptions.RoomNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SingleFlight}, verifying concurrent loads of one key share a single call.
+ *
+ * @author Reza Iranshahi
+ * @since 17 Oct 2026
+ */
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private MeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("room", meterRegistry);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.counter("zoo.reads.coalescing", "entity", "room", "outcome", outcome).count();
+    }
+
+    @Test
+    void concurrent_loads_of_same_key_share_one_call() throws Exception {
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(CALLERS)) {
+            var leader = CompletableFuture.supplyAsync(() -> singleFlight.load("r1", key -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "Jungle";
+            }), executor);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            var followers = new CompletableFuture<?>[CALLERS - 1];
+            for (int i = 0; i < followers.length; i++) {
+                followers[i] = CompletableFuture.supplyAsync(() -> singleFlight.load("r1", key -> {
+                    calls.incrementAndGet();
+                    return "Desert";
+                }), executor);
+            }
+            while (count("coalesced") < followers.length) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertEquals("Jungle", leader.get(5, TimeUnit.SECONDS));
+            for (var follower : followers) {
+                assertEquals("Jungle", follower.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1.0, count("loaded"));
+        assertEquals(CALLERS - 1.0, count("coalesced"));
+    }
+
+    @Test
+    void failed_load_is_shared_and_not_kept() {
+        assertThrows(RoomNotFoundException.class, () -> singleFlight.load("r1", key -> {
+            throw new RoomNotFoundException(key);
+        }));
+
+        assertEquals("Jungle", singleFlight.load("r1", key -> "Jungle"));
+        assertEquals(2.0, count("loaded"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}